@@ -6,12 +6,25 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 캐시 설정
+ *
+ * - dailyBoxOfficeResponse: 영화 매칭까지 끝난 최종 응답 (대상 날짜별)
+ *   KOBIS 원본은 BoxOfficeService 가 직접 보관하며(stale-while-revalidate), 갱신되면 이 캐시를 삭제한다.
+ * - boxOfficeRange: 주간/주말/기간 박스오피스 집계 (기간별), 일별 박스오피스 저장 시 삭제
+ *
+ * 캐시 인터셉터를 트랜잭션보다 먼저 실행해 캐시 히트 시 트랜잭션(DB 커넥션)을 열지 않는다.
+ */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 public class CacheConfig {
+    public static final String DAILY_BOX_OFFICE_RESPONSE = "dailyBoxOfficeResponse";
+    public static final String BOX_OFFICE_RANGE = "boxOfficeRange";
+
     @Bean
     public Caffeine<Object, Object> caffeineConfig() {
         return Caffeine.newBuilder()
@@ -22,7 +35,7 @@ public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager(Caffeine<Object, Object> caffeine) {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("dailyBoxOffice");
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DAILY_BOX_OFFICE_RESPONSE, BOX_OFFICE_RANGE);
         cacheManager.setCaffeine(caffeine);
         return cacheManager;
     }
@@ -1,31 +1,38 @@
 package com.movierang.config;
 
+import com.movierang.external.ResponseStore;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+// 두 WebClient 모두 응답 녹화/재생 필터(ResponseStore) 를 거침 - 기본은 passthrough
 @Configuration
 public class WebClientConfig {
+    // 외부 API 응답 디코딩 설정 (WebClient 와 녹화 재생 응답이 같이 사용)
     @Bean
-    public WebClient kobisWebClient() {
+    public ExchangeStrategies apiExchangeStrategies() {
+        return ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize(16 * 1024 * 1024)) // ✅ 16MB까지 허용
+                .build();
+    }
+
+    @Bean
+    public WebClient kobisWebClient(ResponseStore responseStore, ExchangeStrategies apiExchangeStrategies) {
         return WebClient.builder()
                 .baseUrl("https://kobis.or.kr/kobisopenapi/webservice/rest")
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer.defaultCodecs()
-                                .maxInMemorySize(16 * 1024 * 1024)) // ✅ 16MB까지 허용
-                        .build())
+                .exchangeStrategies(apiExchangeStrategies)
+                .filter(responseStore.filter("kobis"))
                 .build();
     }
 
     @Bean
-    public WebClient kmdbWebClient() {
+    public WebClient kmdbWebClient(ResponseStore responseStore, ExchangeStrategies apiExchangeStrategies) {
         return WebClient.builder()
                 .baseUrl("https://api.koreafilm.or.kr/openapi-data2/wisenut/search_api/")
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer.defaultCodecs()
-                                .maxInMemorySize(16 * 1024 * 1024)) // ✅ 16MB까지 허용
-                        .build())
+                .exchangeStrategies(apiExchangeStrategies)
+                .filter(responseStore.filter("kmdb"))
                 .build();
     }
 }
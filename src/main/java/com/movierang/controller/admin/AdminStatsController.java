@@ -3,6 +3,9 @@ package com.movierang.controller.admin;
 import com.movierang.repository.CinemaRepository;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.PersonRepository;
+import com.movierang.service.BoxOfficeService;
+import com.movierang.service.BoxOfficeTitleMatcher;
+import com.movierang.service.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +21,9 @@ public class AdminStatsController {
     private final MovieRepository movieRepository;
     private final PersonRepository personRepository;
     private final CinemaRepository cinemaRepository;
+    private final BoxOfficeTitleMatcher boxOfficeTitleMatcher;
+    private final BoxOfficeService boxOfficeService;
+    private final ViewCountBuffer viewCountBuffer;
 
     @GetMapping("/summary")
     public ResponseEntity<?> getSummary() {
@@ -28,5 +34,21 @@ public class AdminStatsController {
         ));
     }
 
+    // 박스오피스 제목 매칭 통계 (DB 대체 비율 확인용)
+    @GetMapping("/boxoffice-match")
+    public ResponseEntity<?> getBoxOfficeMatchStats() {
+        return ResponseEntity.ok(boxOfficeTitleMatcher.getStats());
+    }
+
+    // 박스오피스 캐시 통계 (stale 반환 횟수, 갱신 소요 시간)
+    @GetMapping("/boxoffice-cache")
+    public ResponseEntity<?> getBoxOfficeCacheStats() {
+        return ResponseEntity.ok(boxOfficeService.getStats());
+    }
 
+    // 조회수 버퍼 통계 (반영 대기 중인 조회수, flush 횟수/실패)
+    @GetMapping("/view-counts")
+    public ResponseEntity<?> getViewCountStats() {
+        return ResponseEntity.ok(viewCountBuffer.getStats());
+    }
 }
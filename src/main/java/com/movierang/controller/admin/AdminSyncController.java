@@ -1,12 +1,27 @@
 package com.movierang.controller.admin;
 
+import com.movierang.config.CacheConfig;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.entity.KobisMovieMapping;
+import com.movierang.exception.BadRequestException;
 import com.movierang.repository.MovieRepository;
+import com.movierang.service.BoxOfficeBackfillService;
+import com.movierang.service.BoxOfficeService;
+import com.movierang.service.KmdbBackfillService;
+import com.movierang.service.KmdbIncrementalSyncService;
+import com.movierang.service.KmdbSyncService;
+import com.movierang.service.KobisMovieMappingService;
 import com.movierang.service.MovieSyncService;
+import com.movierang.service.SyncJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.CacheManager;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -16,15 +31,23 @@ public class AdminSyncController {
     private final MovieSyncService movieSyncService;
     private final CacheManager cacheManager;
     private final MovieRepository movieRepository;
+    private final KobisMovieMappingService kobisMovieMappingService;
+    private final BoxOfficeService boxOfficeService;
+    private final BoxOfficeBackfillService boxOfficeBackfillService;
+    private final KmdbSyncService kmdbSyncService;
+    private final KmdbIncrementalSyncService kmdbIncrementalSyncService;
+    private final SyncJobService syncJobService;
+    private final KmdbBackfillService kmdbBackfillService;
 
      // KOBIS 박스오피스 데이터 동기화
     @DeleteMapping("/cache/boxoffice")
     public ResponseEntity<?> deleteBoxOfficeCache() {
         try {
-            cacheManager.getCache("dailyBoxOffice").clear();
+            boxOfficeService.invalidate();
+            cacheManager.getCache(CacheConfig.DAILY_BOX_OFFICE_RESPONSE).clear();
             return ResponseEntity.ok(Map.of(
                     "status", "success",
-                    "message", "박스오피스 캐시 삭제 완료. 다음 요청 시 최신 데이터 자동 갱신"
+                    "message", "박스오피스 캐시 삭제 완료. 다음 요청 시 최신 데이터로 갱신 (갱신 전까지 이전 데이터 사용)"
             ));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -34,23 +57,161 @@ public class AdminSyncController {
 
      // KMDB 영화 상세정보 동기화
 
+    // parallelism 지정 시 전체 건수 확인 후 페이지 병렬 조회 (미지정 시 기존 순차 조회)
     @PostMapping("/sync/year")
-    public ResponseEntity<?> syncKmdb(@RequestParam int year) {
+    public ResponseEntity<?> syncKmdb(
+            @RequestParam int year,
+            @RequestParam(required = false) Integer parallelism
+    ) {
         try {
             long startTime = System.currentTimeMillis();
             long beforeCount = movieRepository.count();
 
-            movieSyncService.syncMoviesByYear(year);
+            KmdbSyncService.SyncReport report = null;
+            if (parallelism != null) {
+                report = kmdbSyncService.syncYear(year, parallelism);
+            } else {
+                movieSyncService.syncMoviesByYear(year);
+            }
 
             long afterCount = movieRepository.count();
             long duration = (System.currentTimeMillis() - startTime) / 1000;
 
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", "success");
+            body.put("message", "KMDB 영화 정보 동기화 완료");
+            body.put("addedCount", afterCount - beforeCount);
+            body.put("totalCount", afterCount);
+            body.put("durationSeconds", duration);
+            if (report != null) {
+                body.put("report", report.toMap());
+            }
+            return ResponseEntity.ok(body);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("status", "error", "message", e.getMessage()));
+        }
+    }
+
+    // 동기화 작업 등록 (비동기, 작업 ID 반환) - year 또는 releaseDts/releaseDte 중 하나 지정
+    @PostMapping("/sync/jobs")
+    public ResponseEntity<?> submitSyncJob(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String releaseDts,
+            @RequestParam(required = false) String releaseDte,
+            @RequestParam(defaultValue = "" + KmdbSyncService.DEFAULT_PARALLELISM) int parallelism
+    ) {
+        KmdbSyncRange range;
+        if (year != null) {
+            range = KmdbSyncRange.released(year + "0101", year + "1231");
+        } else if (releaseDts != null && releaseDte != null) {
+            range = KmdbSyncRange.released(releaseDts, releaseDte);
+        } else {
+            throw new BadRequestException("year 또는 releaseDts/releaseDte 를 지정해주세요");
+        }
+
+        Map<String, Object> job = syncJobService.submit(range, parallelism);
+        return ResponseEntity.accepted().body(Map.of(
+                "status", "success",
+                "message", "KMDB 동기화 작업 등록",
+                "job", job
+        ));
+    }
+
+    // 작업 진행 상황 (완료 페이지, 추가/갱신/실패 건수, 처리량)
+    @GetMapping("/sync/jobs/{id}")
+    public ResponseEntity<?> getSyncJob(@PathVariable String id) {
+        return syncJobService.get(id)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(Map.of("status", "success", "job", job)))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(Map.of("status", "error", "message", "작업을 찾을 수 없습니다: " + id)));
+    }
+
+    @GetMapping("/sync/jobs")
+    public ResponseEntity<?> getSyncJobs() {
+        return ResponseEntity.ok(Map.of("status", "success", "jobs", syncJobService.list()));
+    }
+
+    // 작업 취소 (대기 중이면 바로, 실행 중이면 저장 중인 페이지까지 커밋 후 중단)
+    @DeleteMapping("/sync/jobs/{id}")
+    public ResponseEntity<?> cancelSyncJob(@PathVariable String id) {
+        return syncJobService.cancel(id)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "KMDB 동기화 작업 취소 요청",
+                        "job", job
+                )))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(Map.of("status", "error", "message", "작업을 찾을 수 없습니다: " + id)));
+    }
+
+    // 여러 연도 백필 (비동기, 개봉월 단위 구간을 동시 실행 → 중단/실패한 구간은 재실행 시 체크포인트부터)
+    @PostMapping("/sync/backfill")
+    public ResponseEntity<?> startKmdbBackfill(
+            @RequestParam int fromYear,
+            @RequestParam int toYear,
+            @RequestParam(defaultValue = "" + KmdbBackfillService.DEFAULT_PARALLELISM) int parallelism
+    ) {
+        Map<String, Object> progress = kmdbBackfillService.start(fromYear, toYear, parallelism);
+        return ResponseEntity.accepted().body(Map.of(
+                "status", "success",
+                "message", "KMDB 백필 시작",
+                "progress", progress
+        ));
+    }
+
+    @GetMapping("/sync/backfill")
+    public ResponseEntity<?> getKmdbBackfillProgress() {
+        return kmdbBackfillService.getProgress()
+                .<ResponseEntity<?>>map(progress -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "progress", progress
+                )))
+                .orElseGet(() -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "실행한 백필이 없습니다"
+                )));
+    }
+
+    @DeleteMapping("/sync/backfill")
+    public ResponseEntity<?> cancelKmdbBackfill() {
+        return kmdbBackfillService.cancel()
+                .<ResponseEntity<?>>map(progress -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "KMDB 백필 중단 요청",
+                        "progress", progress
+                )))
+                .orElseGet(() -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "실행한 백필이 없습니다"
+                )));
+    }
+
+    // 실행 중인 병렬 동기화 파이프라인 진행 상황 (기간별 단계 큐 길이/처리량)
+    @GetMapping("/sync/pipeline")
+    public ResponseEntity<?> getSyncPipelineProgress() {
+        List<Map<String, Object>> running = kmdbSyncService.getRunning();
+        if (running.isEmpty()) {
             return ResponseEntity.ok(Map.of(
                     "status", "success",
-                    "message", "KMDB 영화 정보 동기화 완료",
-                    "addedCount", afterCount - beforeCount,
-                    "totalCount", afterCount,
-                    "durationSeconds", duration
+                    "message", "실행 중인 병렬 동기화가 없습니다"
+            ));
+        }
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "running", running
+        ));
+    }
+
+    // 증분 동기화 (마지막 수정일 이후 변경분, full=true 면 올해 전체 조회)
+    @PostMapping("/sync/incremental")
+    public ResponseEntity<?> syncIncremental(@RequestParam(defaultValue = "false") boolean full) {
+        try {
+            Map<String, Object> result = kmdbIncrementalSyncService.run(full);
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "message", "KMDB 증분 동기화 완료",
+                    "result", result
             ));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -58,6 +219,15 @@ public class AdminSyncController {
         }
     }
 
+    // 증분 동기화 기준점 / 마지막 실행 (전체 조회 대비 절감량)
+    @GetMapping("/sync/incremental")
+    public ResponseEntity<?> getIncrementalStatus() {
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "result", kmdbIncrementalSyncService.getStatus()
+        ));
+    }
+
     @PostMapping("/sync-kmdb/range")
     public ResponseEntity<?> syncKmdb(
             @RequestParam String startDate,
@@ -79,6 +249,59 @@ public class AdminSyncController {
         }
     }
 
+    // KOBIS movieCd → 영화 매핑 수정 (잘못 매칭된 박스오피스 영화)
+    @PutMapping("/boxoffice/mapping/{movieCd}")
+    public ResponseEntity<?> fixKobisMapping(
+            @PathVariable String movieCd,
+            @RequestParam Long movieId
+    ) {
+        KobisMovieMapping mapping = kobisMovieMappingService.fix(movieCd, movieId);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", "KOBIS 매핑 수정 완료",
+                "movieCd", mapping.getMovieCd(),
+                "movieId", mapping.getMovieId()
+        ));
+    }
+
+    // 매핑 삭제 → 다음 박스오피스 조회 시 제목으로 다시 매칭
+    @DeleteMapping("/boxoffice/mapping/{movieCd}")
+    public ResponseEntity<?> deleteKobisMapping(@PathVariable String movieCd) {
+        boolean deleted = kobisMovieMappingService.delete(movieCd);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", deleted ? "KOBIS 매핑 삭제 완료" : "삭제할 매핑이 없습니다"
+        ));
+    }
+
+    // KOBIS 일별 박스오피스 백필 (비동기, 저장된 날짜는 건너뜀 → 같은 범위 재실행 시 이어서 진행)
+    @PostMapping("/boxoffice/backfill")
+    public ResponseEntity<?> startBoxOfficeBackfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "" + BoxOfficeBackfillService.DEFAULT_CONCURRENCY) int concurrency
+    ) {
+        Map<String, Object> progress = boxOfficeBackfillService.start(from, to, concurrency);
+        return ResponseEntity.accepted().body(Map.of(
+                "status", "success",
+                "message", "박스오피스 백필 시작",
+                "progress", progress
+        ));
+    }
+
+    @GetMapping("/boxoffice/backfill")
+    public ResponseEntity<?> getBoxOfficeBackfillProgress() {
+        return boxOfficeBackfillService.getProgress()
+                .<ResponseEntity<?>>map(progress -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "progress", progress
+                )))
+                .orElseGet(() -> ResponseEntity.ok(Map.of(
+                        "status", "success",
+                        "message", "실행한 백필이 없습니다"
+                )));
+    }
+
      //테스트용 엔드포인드
     @GetMapping("/test")
     public ResponseEntity<?> test() {
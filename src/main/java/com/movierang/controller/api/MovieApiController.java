@@ -1,15 +1,21 @@
 package com.movierang.controller.api;
 
+import com.movierang.dto.movie.BoxOfficeRangeResponse;
 import com.movierang.dto.movie.DailyBoxOfficeResponse;
+import com.movierang.dto.movie.MovieAutocompleteDto;
+import com.movierang.dto.movie.MovieCursorResponse;
 import com.movierang.dto.movie.MovieResponseDto;
+import com.movierang.service.BoxOfficeRankingService;
 import com.movierang.service.MovieService;
 import com.movierang.service.MovieSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -17,8 +23,12 @@ import java.util.List;
 @RequiredArgsConstructor
 @RequestMapping("/api/movie")
 public class MovieApiController {
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final MovieService movieService;
     private final MovieSyncService movieSyncService;
+    private final BoxOfficeRankingService boxOfficeRankingService;
 
     @GetMapping("/now-playing")
     public ResponseEntity<Page<MovieResponseDto>> getNowPlaying(
@@ -36,14 +46,72 @@ public class MovieApiController {
         return ResponseEntity.ok(movieService.getUpcoming(page, size));
     }
 
+    // 키셋 페이징 (다음 페이지는 응답의 nextCursor 전달)
+    @GetMapping("/now-playing/cursor")
+    public ResponseEntity<MovieCursorResponse> getNowPlayingByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(movieService.getNowPlayingByCursor(cursor, clampPageSize(size)));
+    }
+
+    @GetMapping("/upcoming/cursor")
+    public ResponseEntity<MovieCursorResponse> getUpcomingByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(movieService.getUpcomingByCursor(cursor, clampPageSize(size)));
+    }
+
+    // date 미지정 시 어제 박스오피스, 지정 시 해당 날짜 (yyyy-MM-dd)
     @GetMapping("/boxoffice/daily")
-    public ResponseEntity<DailyBoxOfficeResponse> getDailyBoxOffice() {
-        log.info("GET /api/movie/boxoffice/daily 요청");
-        return ResponseEntity.ok(movieService.getDailyBoxOfficeWithMovieInfo());
+    public ResponseEntity<DailyBoxOfficeResponse> getDailyBoxOffice(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("GET /api/movie/boxoffice/daily 요청 - date: {}", date);
+
+        if (date == null) {
+            return ResponseEntity.ok(movieService.getDailyBoxOfficeWithMovieInfo());
+        }
+        return ResponseEntity.ok(movieService.getDailyBoxOfficeWithMovieInfo(date));
+    }
+
+    // 주간 박스오피스 (월~일, date 가 속한 주 / 미지정 시 지난주)
+    @GetMapping("/boxoffice/weekly")
+    public ResponseEntity<BoxOfficeRangeResponse> getWeeklyBoxOffice(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(boxOfficeRankingService.getWeekly(date));
+    }
+
+    // 주말 박스오피스 (금~일, date 가 속한 주 / 미지정 시 지난 주말)
+    @GetMapping("/boxoffice/weekend")
+    public ResponseEntity<BoxOfficeRangeResponse> getWeekendBoxOffice(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(boxOfficeRankingService.getWeekend(date));
+    }
+
+    // 기간 박스오피스 (from ~ to, 양 끝 포함)
+    @GetMapping("/boxoffice/range")
+    public ResponseEntity<BoxOfficeRangeResponse> getBoxOfficeByRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(boxOfficeRankingService.getRange(from, to));
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<MovieResponseDto>> searchMovies(@RequestParam String title) {
         return ResponseEntity.ok(movieService.findMoviesByTitle(title));
     }
+
+    // 제목 자동완성 (초성 "ㅂㅅㅎ", 입력 중 글자 "부사", 영문 제목 지원)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<MovieAutocompleteDto>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(movieService.autocomplete(q, Math.min(size, MAX_AUTOCOMPLETE_SIZE)));
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
 }
@@ -0,0 +1,49 @@
+package com.movierang.dto.movie;
+
+import com.movierang.entity.MovieEntity;
+import com.movierang.service.BoxOfficeAggregateIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 박스오피스 (주간/주말/임의 기간)
+ */
+@Getter
+@Builder
+public class BoxOfficeRangeResponse {
+    private String boxOfficeType;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Movie> movies;
+
+    @Getter
+    @Builder
+    public static class Movie {
+        private Long id;
+        private int rank;
+        private String movieCd;
+        private String title;
+        private String poster;
+        private LocalDate openDt;
+        private long audiCnt;
+        private long salesAmt;
+        private int showDays;
+
+        public static Movie from(int rank, BoxOfficeAggregateIndex.Aggregate aggregate, MovieEntity movie) {
+            return Movie.builder()
+                    .id(movie != null ? movie.getId() : null)
+                    .rank(rank)
+                    .movieCd(aggregate.getMovieCd())
+                    .title(aggregate.getMovieNm())
+                    .poster(movie != null ? movie.getPoster() : null)
+                    .openDt(aggregate.getOpenDt())
+                    .audiCnt(aggregate.getAudiCnt())
+                    .salesAmt(aggregate.getSalesAmt())
+                    .showDays(aggregate.getShowDays())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.movierang.dto.movie;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@Builder
+public class MovieAutocompleteDto {
+    private Long id;
+    private String title;
+    private String titleEng;
+    private Long viewCount;
+}
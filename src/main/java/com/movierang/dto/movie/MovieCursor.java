@@ -0,0 +1,54 @@
+package com.movierang.dto.movie;
+
+import com.movierang.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서 (정규화된 개봉일 yyyymmdd + 영화 ID)
+ *
+ * 클라이언트에는 Base64 문자열로만 노출 (opaque)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MovieCursor {
+    private static final MovieCursor LATEST = new MovieCursor(99999999, Long.MAX_VALUE);
+    private static final MovieCursor EARLIEST = new MovieCursor(0, 0L);
+
+    private final int releaseSortKey;
+    private final long id;
+
+    public static MovieCursor of(int releaseSortKey, long id) {
+        return new MovieCursor(releaseSortKey, id);
+    }
+
+    // 내림차순 첫 페이지 시작점
+    public static MovieCursor latest() {
+        return LATEST;
+    }
+
+    // 오름차순 첫 페이지 시작점
+    public static MovieCursor earliest() {
+        return EARLIEST;
+    }
+
+    public String encode() {
+        String raw = releaseSortKey + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new MovieCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
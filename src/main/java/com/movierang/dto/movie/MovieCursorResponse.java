@@ -0,0 +1,36 @@
+package com.movierang.dto.movie;
+
+import com.movierang.repository.projection.MovieCursorRow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MovieCursorResponse {
+    private List<MovieResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // size + 1건을 조회한 결과로 다음 페이지 여부 판단
+    // 다음 커서는 쿼리가 정렬/비교에 쓴 release_sort_key 그대로 사용 (개봉일 문자열에서 다시 계산하지 않음)
+    public static MovieCursorResponse of(List<MovieCursorRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<MovieCursorRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MovieCursorRow last = page.get(page.size() - 1);
+            nextCursor = MovieCursor.of(last.getReleaseSortKey(), last.getId()).encode();
+        }
+
+        return MovieCursorResponse.builder()
+                .content(page.stream().map(MovieResponseDto::summary).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.movierang.dto.movie;
 
 import com.movierang.entity.MovieEntity;
 import com.movierang.entity.MoviePersonEntity;
+import com.movierang.repository.projection.MovieSummaryRow;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
@@ -51,6 +52,18 @@ public class MovieResponseDto {
                 .build();
     }
 
+    // 목록용 projection 변환 (TEXT 컬럼 미조회)
+    public static MovieResponseDto summary(MovieSummaryRow row) {
+        return MovieResponseDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .genre(row.getGenre())
+                .poster(row.getPoster())
+                .rating(row.getRating())
+                .repRlsDate(formatDate(row.getRepRlsDate()))
+                .build();
+    }
+
     public static MovieResponseDto from(MovieEntity entity) {
         return MovieResponseDto.builder()
                 .id(entity.getId())
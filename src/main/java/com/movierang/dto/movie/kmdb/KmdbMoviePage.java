@@ -0,0 +1,17 @@
+package com.movierang.dto.movie.kmdb;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * KMDB 검색 결과 한 페이지 (전체 건수 포함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class KmdbMoviePage {
+    private final int startCount;           // 페이지 시작 위치
+    private final int totalCount;           // 검색 조건 전체 건수 (TotalCount)
+    private final List<KmdbMovieDto> movies;
+}
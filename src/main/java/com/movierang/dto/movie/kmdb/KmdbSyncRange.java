@@ -0,0 +1,73 @@
+package com.movierang.dto.movie.kmdb;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KMDB 동기화 조회 범위 (개봉일 또는 수정일 기간, YYYYMMDD)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KmdbSyncRange {
+    public static final String UPDATE_KEY_PREFIX = "update:";
+    private static final String RELEASE_KEY_PREFIX = "release:";
+
+    private final String releaseDts;
+    private final String releaseDte;
+    private final String updateDts;
+    private final String updateDte;
+
+    // 개봉일 기간 (연도/기간 동기화)
+    public static KmdbSyncRange released(String releaseDts, String releaseDte) {
+        return new KmdbSyncRange(releaseDts, releaseDte, null, null);
+    }
+
+    // 수정일 기간 (증분 동기화 - 기간 안에 등록/수정된 영화)
+    public static KmdbSyncRange updated(String updateDts, String updateDte) {
+        return new KmdbSyncRange(null, null, updateDts, updateDte);
+    }
+
+    // key() 로 만든 문자열에서 복원 (체크포인트에 남은 범위를 이어서 실행할 때)
+    public static KmdbSyncRange fromKey(String key) {
+        boolean incremental = key.startsWith(UPDATE_KEY_PREFIX);
+        if (!incremental && !key.startsWith(RELEASE_KEY_PREFIX)) {
+            throw new IllegalArgumentException("잘못된 동기화 범위 키: " + key);
+        }
+        String[] dates = key.substring(key.indexOf(':') + 1).split("-");
+        if (dates.length != 2) {
+            throw new IllegalArgumentException("잘못된 동기화 범위 키: " + key);
+        }
+        return incremental ? updated(dates[0], dates[1]) : released(dates[0], dates[1]);
+    }
+
+    public boolean isIncremental() {
+        return updateDts != null;
+    }
+
+    // 같은 종류(개봉일/수정일) 기간이 하루라도 겹치는지 (예: 2024년 전체와 2024년 6월)
+    public boolean overlaps(KmdbSyncRange other) {
+        if (isIncremental() != other.isIncremental()) {
+            return false;
+        }
+        String from = isIncremental() ? updateDts : releaseDts;
+        String to = isIncremental() ? updateDte : releaseDte;
+        String otherFrom = other.isIncremental() ? other.updateDts : other.releaseDts;
+        String otherTo = other.isIncremental() ? other.updateDte : other.releaseDte;
+        return from.compareTo(otherTo) <= 0 && otherFrom.compareTo(to) <= 0;   // YYYYMMDD 는 문자열 비교 = 날짜 비교
+    }
+
+    // 체크포인트 등 저장용 키 (예: release:20240101-20241231)
+    public String key() {
+        return isIncremental()
+                ? UPDATE_KEY_PREFIX + updateDts + "-" + updateDte
+                : RELEASE_KEY_PREFIX + releaseDts + "-" + releaseDte;
+    }
+
+    @Override
+    public String toString() {
+        return isIncremental()
+                ? "수정일 " + updateDts + " ~ " + updateDte
+                : "개봉일 " + releaseDts + " ~ " + releaseDte;
+    }
+}
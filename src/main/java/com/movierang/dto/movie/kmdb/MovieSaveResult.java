@@ -0,0 +1,16 @@
+package com.movierang.dto.movie.kmdb;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KMDB 페이지 일괄 저장 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieSaveResult {
+    private final int inserted;   // 새로 저장한 영화
+    private final int updated;    // 내용이 바뀌어 갱신한 기존 영화
+    private final int unchanged;  // 내용 해시가 같아 건너뛴 기존 영화
+    private final int skipped;    // docId 없음/페이지 내 중복 등으로 건너뛴 행
+}
@@ -2,6 +2,7 @@ package com.movierang.dto.watchhistory;
 
 import com.movierang.entity.MovieEntity;
 import com.movierang.entity.WatchHistory;
+import com.movierang.repository.projection.MovieSummaryRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -76,4 +77,22 @@ public class WatchHistoryResponse {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    // 목록용 projection 변환 (TEXT 컬럼 미조회)
+    public static WatchHistoryResponse from(WatchHistory entity, MovieSummaryRow movie) {
+        return WatchHistoryResponse.builder()
+                .id(entity.getId())
+                .movieId(entity.getMovieId())
+                .movieTitle(movie != null ? movie.getTitle() : "정보 없음")
+                .posterUrl(movie != null ? movie.getPoster() : null)
+                .watchedAt(entity.getWatchedAt())
+                .cinemaId(entity.getCinemaId())
+                .cinemaName(entity.getCinemaName())
+                .showTime(entity.getShowTime())
+                .rating(entity.getRating())
+                .comment(entity.getComment())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
 }
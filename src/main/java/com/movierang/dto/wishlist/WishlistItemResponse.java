@@ -1,7 +1,7 @@
 package com.movierang.dto.wishlist;
 
-import com.movierang.entity.MovieEntity;
 import com.movierang.entity.Wishlist;
+import com.movierang.repository.projection.MovieSummaryRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,7 +20,7 @@ public class WishlistItemResponse {
     private String repRlsDate;
     private LocalDateTime createdAt;
 
-    public static WishlistItemResponse from(Wishlist wishlist, MovieEntity movie) {
+    public static WishlistItemResponse from(Wishlist wishlist, MovieSummaryRow movie) {
         return WishlistItemResponse.builder()
                 .wishlistId(wishlist.getId())
                 .movieId(movie.getId())
@@ -0,0 +1,86 @@
+package com.movierang.entity;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 박스오피스 (KOBIS 조회 결과 보관)
+ *
+ * 날짜별 순위 1~10위를 한 행씩 저장한다.
+ */
+@Entity
+@Table(
+    name = "box_office_daily",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_box_office_daily_date_movie",
+        columnNames = {"target_dt", "movie_cd"}
+    ),
+    indexes = @Index(name = "idx_box_office_daily_date_rank", columnList = "target_dt, rank_no")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class BoxOfficeDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_dt", nullable = false)
+    private LocalDate targetDt;
+
+    @Column(name = "rank_no", nullable = false)
+    private int rank;
+
+    @Column(name = "movie_cd", nullable = false, length = 20)
+    private String movieCd;
+
+    @Column(name = "movie_nm")
+    private String movieNm;
+
+    @Column(name = "open_dt")
+    private LocalDate openDt;
+
+    @Column(name = "audi_cnt")
+    private Long audiCnt;
+
+    @Column(name = "audi_acc")
+    private Long audiAcc;
+
+    @Column(name = "sales_amt")
+    private Long salesAmt;
+
+    @Column(name = "sales_acc")
+    private Long salesAcc;
+
+    public static BoxOfficeDaily of(LocalDate targetDt, BoxOfficeItemDto item) {
+        return BoxOfficeDaily.builder()
+                .targetDt(targetDt)
+                .rank(item.getRank())
+                .movieCd(item.getMovieCd())
+                .movieNm(item.getTitle())
+                .openDt(item.getOpenDt())
+                .audiCnt(item.getAudiCnt())
+                .audiAcc(item.getAudiAcc())
+                .salesAmt(item.getSalesAmt())
+                .salesAcc(item.getSalesAcc())
+                .build();
+    }
+
+    public BoxOfficeItemDto toItem() {
+        return BoxOfficeItemDto.builder()
+                .rank(rank)
+                .movieCd(movieCd)
+                .title(movieNm)
+                .openDt(openDt)
+                .audiCnt(audiCnt)
+                .audiAcc(audiAcc)
+                .salesAmt(salesAmt)
+                .salesAcc(salesAcc)
+                .build();
+    }
+}
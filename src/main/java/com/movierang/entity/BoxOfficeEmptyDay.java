@@ -0,0 +1,35 @@
+package com.movierang.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * KOBIS 가 빈 목록을 돌려준 날짜 (일별 박스오피스)
+ *
+ * box_office_daily 에는 행이 없으므로 따로 기록해 두고, 백필을 이어서 실행할 때 다시 조회하지 않는다.
+ */
+@Entity
+@Table(name = "box_office_empty_day")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class BoxOfficeEmptyDay {
+
+    @Id
+    @Column(name = "target_dt")
+    private LocalDate targetDt;
+
+    @Column(nullable = false)
+    private LocalDateTime checkedAt;
+
+    public static BoxOfficeEmptyDay of(LocalDate targetDt) {
+        return BoxOfficeEmptyDay.builder()
+                .targetDt(targetDt)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+}
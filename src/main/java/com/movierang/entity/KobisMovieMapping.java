@@ -0,0 +1,61 @@
+package com.movierang.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * KOBIS 영화코드(movieCd) → 영화(MovieEntity) 매핑
+ *
+ * 박스오피스 제목 매칭 결과를 저장해 두고 다음 조회부터는 movieCd 로 바로 찾는다.
+ * 관리자가 수정한 매핑(manual)은 자동 매칭으로 덮어쓰지 않는다.
+ */
+@Entity
+@Table(name = "kobis_movie_mapping")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class KobisMovieMapping {
+
+    @Id
+    @Column(name = "movie_cd", length = 20)
+    private String movieCd;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(nullable = false)
+    private boolean manual;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public static KobisMovieMapping matched(String movieCd, Long movieId) {
+        return KobisMovieMapping.builder()
+                .movieCd(movieCd)
+                .movieId(movieId)
+                .manual(false)
+                .build();
+    }
+
+    // 자동 매칭 갱신
+    public void rematch(Long movieId) {
+        this.movieId = movieId;
+    }
+
+    // 관리자 수정
+    public void remap(Long movieId) {
+        this.movieId = movieId;
+        this.manual = true;
+    }
+}
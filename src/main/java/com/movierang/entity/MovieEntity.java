@@ -1,6 +1,8 @@
 package com.movierang.entity;
 
 import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.util.MovieContentHash;
+import com.movierang.util.ReleaseDateUtils;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,8 +13,11 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Builder
-@Table(name = "movie")
+@Builder(toBuilder = true)
+@Table(name = "movie", indexes = {
+        @Index(name = "idx_movie_release_sort_key", columnList = "release_sort_key, id"),
+        @Index(name = "uk_movie_doc_id", columnList = "docId", unique = true)   // 동기화 중복 체크 + ON CONFLICT 대상
+})
 public class MovieEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,6 +42,10 @@ public class MovieEntity {
     private String repRlsDate;
     private String runtime;
 
+    // 정렬/필터용 개봉일 (yyyymmdd, 일자 00 → 99 정규화, 변환 불가 시 0)
+    @Column(name = "release_sort_key")
+    private Integer releaseSortKey;
+
     // 상세 정보 (TEXT 타입)
     @Column(columnDefinition = "TEXT")
     private String plot;
@@ -62,6 +71,10 @@ public class MovieEntity {
     @Column(columnDefinition = "TEXT")
     private String vodUrls;      // | 구분자로 저장
 
+    // KMDB 내용 해시 (동기화 시 바뀐 영화만 갱신)
+    @Column(length = 64)
+    private String contentHash;
+
     // 관계
     @OneToMany(mappedBy = "movie", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -83,6 +96,7 @@ public class MovieEntity {
                 .genre(dto.getGenre())
                 .rating(dto.getRating())
                 .repRlsDate(dto.getRepRlsDate())
+                .releaseSortKey(ReleaseDateUtils.toSortKey(dto.getRepRlsDate()))
                 .runtime(dto.getRuntime())
                 .plot(dto.getPlot())
                 .type(dto.getType())
@@ -94,6 +108,7 @@ public class MovieEntity {
                 .posters(joinWithPipe(dto.getPosters()))      // List → String
                 .stills(joinWithPipe(dto.getStills()))        // List → String
                 .vodUrls(joinWithPipe(dto.getVodUrls()))      // List → String
+                .contentHash(MovieContentHash.of(dto))
                 .build();
     }
 
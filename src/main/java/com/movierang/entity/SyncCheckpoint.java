@@ -0,0 +1,104 @@
+package com.movierang.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * KMDB 기간 동기화 체크포인트 (기간별 한 행)
+ *
+ * 페이지를 저장하는 트랜잭션에서 같이 갱신한다. 중단/실패한 동기화는 다음 실행 때
+ * 빠진 첫 페이지부터 이어서 조회하고, 그 뒤에서 이미 커밋된 페이지(병렬 조회 중 실패한 페이지 뒤)는 건너뛴다.
+ * 완료된 기간은 처음부터 다시 조회.
+ */
+@Entity
+@Table(name = "sync_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SyncCheckpoint {
+
+    // 예: release:20240101-20241231
+    @Id
+    @Column(length = 100)
+    private String rangeKey;
+
+    private int pageSize;
+
+    // 다음에 조회할 startCount (여기 전까지는 빠짐없이 커밋됨)
+    private int nextStartCount;
+
+    // nextStartCount 뒤에서 먼저 커밋된 페이지의 startCount (쉼표 구분)
+    @Column(length = 4000)
+    private String committedAhead;
+
+    @Column(length = 20)
+    private String status;      // RUNNING / COMPLETED / FAILED / CANCELLED
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime updatedAt;
+
+    public static SyncCheckpoint start(String rangeKey, int pageSize) {
+        return SyncCheckpoint.builder()
+                .rangeKey(rangeKey)
+                .pageSize(pageSize)
+                .nextStartCount(0)
+                .status("RUNNING")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 이어서 실행할 수 있는 체크포인트 (완료되지 않았고 페이지 크기가 같음)
+    public boolean isResumable(int pageSize) {
+        return !"COMPLETED".equals(status) && this.pageSize == pageSize;
+    }
+
+    public void resume() {
+        this.status = "RUNNING";
+        this.lastError = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 페이지 커밋 (앞 페이지가 빠진 경우 - 실패한 페이지 뒤 - 는 건너뛸 페이지로 기록)
+    public void committed(int startCount) {
+        TreeSet<Integer> ahead = getCommittedAhead();
+        if (startCount == nextStartCount) {
+            nextStartCount += pageSize;
+            while (ahead.remove(nextStartCount)) {
+                nextStartCount += pageSize;
+            }
+        } else if (startCount > nextStartCount) {
+            ahead.add(startCount);
+        }
+        this.committedAhead = ahead.isEmpty() ? null
+                : ahead.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 이어서 실행할 때 다시 조회하지 않을 페이지의 startCount
+    public TreeSet<Integer> getCommittedAhead() {
+        TreeSet<Integer> ahead = new TreeSet<>();
+        if (committedAhead != null && !committedAhead.isBlank()) {
+            Arrays.stream(committedAhead.split(",")).map(Integer::valueOf).forEach(ahead::add);
+        }
+        return ahead;
+    }
+
+    public void finish(String status, String error) {
+        this.status = status;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 마지막으로 커밋한 페이지 번호 (0부터, 없으면 -1)
+    public int getLastCommittedPage() {
+        return nextStartCount / pageSize - 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.movierang.event;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 박스오피스 저장 이벤트 (해당 날짜의 순위 전체 교체)
+ *
+ * 기간별 집계 색인은 커밋 이후에 이 이벤트로 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoxOfficeDailySavedEvent {
+    private final LocalDate targetDt;
+    private final List<BoxOfficeItemDto> items;
+}
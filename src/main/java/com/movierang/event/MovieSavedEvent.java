@@ -0,0 +1,16 @@
+package com.movierang.event;
+
+import com.movierang.entity.MovieEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 영화 신규 저장 이벤트
+ *
+ * 메모리 색인(제목 검색, 자동완성, 박스오피스 매칭)은 커밋 이후에 이 이벤트로 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieSavedEvent {
+    private final MovieEntity movie;
+}
@@ -0,0 +1,169 @@
+package com.movierang.external;
+
+import com.movierang.exception.ExternalApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 API(KMDB/KOBIS) 응답 녹화/재생 (WebClient 필터로 ApiClient 아래에 끼움)
+ *
+ * - passthrough: 기존 동작 (필터 없음과 같음)
+ * - record: 실제 API 호출 후 200 응답 본문을 gzip 으로 저장
+ * - replay: 저장된 응답만 반환, 네트워크 호출 없음 (녹화가 없으면 오류)
+ *   재생 응답도 WebClient 와 같은 ExchangeStrategies(16MB) 로 디코딩 → detail=Y 500건 페이지도 그대로 재생
+ *
+ * 파일 키는 경로 + 정렬한 쿼리 파라미터의 SHA-256 (API 키 파라미터는 제외 → 키가 달라도 같은 녹화 사용)
+ * 예: response-store/kmdb/3f2a….json.gz
+ */
+@Slf4j
+@Component
+public class ResponseStore {
+    private static final Set<String> KEY_PARAMS = Set.of("key", "servicekey");
+
+    public enum Mode {PASSTHROUGH, RECORD, REPLAY}
+
+    private final Mode mode;
+    private final Path dir;
+    private final ExchangeStrategies strategies;
+
+    public ResponseStore(@Value("${api.response-store.mode:passthrough}") String mode,
+                         @Value("${api.response-store.dir:response-store}") String dir,
+                         ExchangeStrategies apiExchangeStrategies) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        this.dir = Path.of(dir);
+        this.strategies = apiExchangeStrategies;
+        if (this.mode != Mode.PASSTHROUGH) {
+            log.info("외부 API 응답 {} 모드 - {}", this.mode, this.dir.toAbsolutePath());
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * API 별 WebClient 필터
+     *
+     * @param api 녹화 디렉터리 이름 (kmdb / kobis)
+     */
+    public ExchangeFilterFunction filter(String api) {
+        return (request, next) -> switch (mode) {
+            case PASSTHROUGH -> next.exchange(request);
+            case RECORD -> record(api, request, next);
+            case REPLAY -> replay(api, request);
+        };
+    }
+
+    private Mono<ClientResponse> record(String api, ClientRequest request, ExchangeFunction next) {
+        Path file = file(api, request);
+        return next.exchange(request).flatMap(response -> {
+            if (!response.statusCode().is2xxSuccessful()) {
+                return Mono.just(response);     // 오류 응답은 녹화하지 않음
+            }
+            return response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(body -> {
+                        write(file, body);
+                        log.debug("응답 녹화 - {} → {} ({} bytes)", request.url(), file.getFileName(), body.length);
+                        return response.mutate()
+                                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                                .build();
+                    });
+        });
+    }
+
+    private Mono<ClientResponse> replay(String api, ClientRequest request) {
+        Path file = file(api, request);
+        return Mono.fromCallable(() -> {
+                    if (!Files.exists(file)) {
+                        throw new ExternalApiException("녹화된 응답이 없습니다: " + api + " " + redact(request));
+                    }
+                    return read(file);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(body -> ClientResponse.create(HttpStatus.OK, strategies)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                        .build());
+    }
+
+    private Path file(String api, ClientRequest request) {
+        return dir.resolve(api).resolve(sha256(redact(request)) + ".json.gz");
+    }
+
+    // 경로 + 정렬한 쿼리 파라미터 (API 키 제외)
+    private static String redact(ClientRequest request) {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+        Map<String, List<String>> sorted = new TreeMap<>();
+        params.forEach((name, values) -> {
+            if (!KEY_PARAMS.contains(name.toLowerCase())) {
+                sorted.put(name, values);
+            }
+        });
+        return request.url().getPath() + "?" + sorted;
+    }
+
+    private static void write(Path file, byte[] body) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "response", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                out.write(body);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 녹화 실패: " + file, e);
+        }
+    }
+
+    private static byte[] read(Path file) {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("녹화된 응답 읽기 실패: " + file, e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
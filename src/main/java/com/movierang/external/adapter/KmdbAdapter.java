@@ -1,13 +1,19 @@
 package com.movierang.external.adapter;
 
 import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.KmdbMoviePage;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.exception.KmdbApiException;
 import com.movierang.external.kmdb.KmdbApiClient;
 import com.movierang.external.kmdb.KmdbRequest;
-import com.movierang.external.kmdb.KmdbResponse;
+import com.movierang.external.kmdb.KmdbResponseReader;
 import com.movierang.mapper.KmdbMovieMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -22,30 +28,49 @@ public class KmdbAdapter {
                 .detail("Y")
                 .build();
 
-        KmdbResponse response = kmdbApiClient.searchMovies(req);
-        if (response == null || response.getData() == null) return List.of();
-
-        return response.getData().stream()
-                .flatMap(data -> data.getResult().stream())
-                .map(kmdbMovieMapper::toDto)
-                .toList();
+        List<KmdbMovieDto> movies = new ArrayList<>();
+        kmdbApiClient.searchMoviesStreaming(req, result -> movies.add(kmdbMovieMapper.toDto(result)));
+        return movies;
     }
 
     public List<KmdbMovieDto> searchMovies(String releaseDts, String releaseDte, int listCount, int startCount) {
-        KmdbRequest req = KmdbRequest.builder()
-                .releaseDts(releaseDts)
-                .releaseDte(releaseDte)
+        List<KmdbMovieDto> movies = new ArrayList<>();
+        kmdbApiClient.searchMoviesStreaming(releaseRequest(releaseDts, releaseDte, listCount, startCount),
+                result -> movies.add(kmdbMovieMapper.toDto(result)));
+        return movies;
+    }
+
+    // 페이지 원문 논블로킹 조회 (디코딩/변환은 decodePage 로 분리)
+    public Mono<byte[]> searchMoviesRawAsync(String releaseDts, String releaseDte, int listCount, int startCount) {
+        return searchMoviesRawAsync(KmdbSyncRange.released(releaseDts, releaseDte), listCount, startCount);
+    }
+
+    public Mono<byte[]> searchMoviesRawAsync(KmdbSyncRange range, int listCount, int startCount) {
+        return kmdbApiClient.searchMoviesRawAsync(rangeRequest(range, listCount, startCount))
+                .onErrorMap(e -> new KmdbApiException("KMDB 조회 실패(startCount=" + startCount + "): " + e.getMessage()));
+    }
+
+    // 페이지 원문 → DTO 목록 (전체 건수 포함, Result 를 한 건씩 읽어 바로 변환)
+    public KmdbMoviePage decodePage(byte[] body, int startCount) {
+        List<KmdbMovieDto> movies = new ArrayList<>();
+        int totalCount = KmdbResponseReader.read(new ByteArrayInputStream(body),
+                result -> movies.add(kmdbMovieMapper.toDto(result)));
+        return new KmdbMoviePage(startCount, totalCount, movies);
+    }
+
+    private KmdbRequest releaseRequest(String releaseDts, String releaseDte, int listCount, int startCount) {
+        return rangeRequest(KmdbSyncRange.released(releaseDts, releaseDte), listCount, startCount);
+    }
+
+    private KmdbRequest rangeRequest(KmdbSyncRange range, int listCount, int startCount) {
+        return KmdbRequest.builder()
+                .releaseDts(range.getReleaseDts())
+                .releaseDte(range.getReleaseDte())
+                .updateDts(range.getUpdateDts())
+                .updateDte(range.getUpdateDte())
                 .listCount(listCount)
                 .startCount(startCount)
                 .detail("Y")
                 .build();
-
-        KmdbResponse response = kmdbApiClient.searchMovies(req);
-        if (response == null || response.getData() == null) return List.of();
-
-        return response.getData().stream()
-                .flatMap(data -> data.getResult().stream())
-                .map(kmdbMovieMapper::toDto)
-                .toList();
     }
 }
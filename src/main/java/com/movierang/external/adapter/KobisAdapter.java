@@ -6,6 +6,7 @@ import com.movierang.external.kobis.KobisApiClient;
 import com.movierang.external.kobis.KobisDailyResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -23,4 +24,11 @@ public class KobisAdapter {
             throw new KobisApiException("박스오피스 조회 실패: " + e.getMessage());
         }
     }
+
+    public Mono<DailyBoxOfficeResultDto> getDailyBoxOfficeAsync(String date) {
+        return kobisApiClient.getDailyBoxOfficeAsync(date)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("KOBIS 응답이 비어있습니다.")))
+                .map(DailyBoxOfficeResultDto::from)
+                .onErrorMap(e -> new KobisApiException("박스오피스 조회 실패(" + date + "): " + e.getMessage()));
+    }
 }
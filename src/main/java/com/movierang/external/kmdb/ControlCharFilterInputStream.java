@@ -0,0 +1,65 @@
+package com.movierang.external.kmdb;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * KMDB 응답의 제어 문자 제거 (code 0-31, 단 탭/줄바꿈/CR 제외)
+ *
+ * UTF-8 멀티바이트 문자의 바이트는 모두 0x80 이상이므로 바이트 단위로 걸러도 문자가 깨지지 않는다.
+ * 문자열로 바꾼 뒤 replaceAll 하던 방식과 달리 응답 전체를 복사하지 않는다.
+ */
+class ControlCharFilterInputStream extends FilterInputStream {
+
+    ControlCharFilterInputStream(InputStream in) {
+        super(in);
+    }
+
+    static boolean isControl(int b) {
+        return b < 0x20 && b != '\t' && b != '\n' && b != '\r';
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b;
+        do {
+            b = super.read();
+        } while (b != -1 && isControl(b));
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        while (true) {
+            int n = super.read(buf, off, len);
+            if (n <= 0) {
+                return n;
+            }
+            int kept = off;
+            for (int i = off; i < off + n; i++) {
+                if (!isControl(buf[i] & 0xff)) {
+                    buf[kept++] = buf[i];
+                }
+            }
+            // 전부 제어 문자였으면 다음 덩어리를 읽음 (0 을 반환하면 EOF 로 오해하는 호출자가 있음)
+            if (kept > off) {
+                return kept - off;
+            }
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
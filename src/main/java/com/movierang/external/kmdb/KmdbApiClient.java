@@ -1,14 +1,24 @@
 package com.movierang.external.kmdb;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -18,12 +28,43 @@ public class KmdbApiClient {
     @Value("${api.kmdb.key}")
     private String KMDB_API_KEY;
 
+    // 스트리밍 디코딩 시 미리 받아 둘 DataBuffer 수 (응답 전체가 아닌 몇 개 덩어리만 메모리에 유지)
+    private static final int STREAM_DEMAND = 4;
+
     private static final ObjectMapper mapper = new ObjectMapper()
             .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
     public KmdbResponse searchMovies(KmdbRequest req) {
-        String json = kmdbWebClient.get()
+        return searchMoviesRawAsync(req)
+                .map(KmdbApiClient::parse)
+                .block();
+    }
+
+    /**
+     * 응답을 받는 대로 스트리밍 디코딩 (본문 전체를 메모리에 올리지 않음)
+     *
+     * @return 전체 건수 (TotalCount)
+     */
+    public int searchMoviesStreaming(KmdbRequest req, Consumer<KmdbResponse.Result> consumer) {
+        Flux<DataBuffer> body = request(req).retrieve().bodyToFlux(DataBuffer.class);
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND)) {
+            return KmdbResponseReader.read(in, consumer);
+        } catch (IOException e) {
+            throw new RuntimeException("KMDB 응답 읽기 실패", e);
+        }
+    }
+
+    // 응답 원문 논블로킹 조회 (디코딩은 호출자가 별도 스레드에서 - 동기화 파이프라인 디코딩 단계)
+    public Mono<byte[]> searchMoviesRawAsync(KmdbRequest req) {
+        return request(req)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("KMDB 응답이 비정상입니다.")));
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(KmdbRequest req) {
+        return kmdbWebClient.get()
                 .uri(uri -> uri
                         .path("search_json2.jsp")
                         .queryParam("ServiceKey", KMDB_API_KEY)
@@ -37,26 +78,28 @@ public class KmdbApiClient {
                         .queryParamIfPresent("nation", Optional.ofNullable(req.getNation()))
                         .queryParamIfPresent("releaseDts", Optional.ofNullable(req.getReleaseDts()))
                         .queryParamIfPresent("releaseDte", Optional.ofNullable(req.getReleaseDte()))
+                        .queryParamIfPresent("updateDts", Optional.ofNullable(req.getUpdateDts()))
+                        .queryParamIfPresent("updateDte", Optional.ofNullable(req.getUpdateDte()))
                         .queryParamIfPresent("movieId", Optional.ofNullable(req.getMovieId()))
                         .queryParamIfPresent("movieSeq", Optional.ofNullable(req.getMovieSeq()))
                         .queryParamIfPresent("listCount", Optional.ofNullable(req.getListCount()))
                         .queryParamIfPresent("startCount", Optional.ofNullable(req.getStartCount()))
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        if (json == null || !json.trim().startsWith("{")) {
-            throw new RuntimeException("KMDB 응답이 비정상입니다.");
-        }
-
-        // KMDB 데이터에 포함된 제어 문자 제거 (code 0-31, 단 탭/줄바꿈 제외)
-        json = json.replaceAll("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F]", "");
+                        .build());
+    }
 
-        try {
-            return mapper.readValue(json, KmdbResponse.class);
-        } catch (Exception e) {
+    // 응답 전체 파싱 (제어 문자는 바이트 단위로 제거)
+    public static KmdbResponse parse(byte[] body) {
+        try (JsonParser parser = mapper.createParser(new ControlCharFilterInputStream(new ByteArrayInputStream(body)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("KMDB 응답이 비정상입니다.");
+            }
+            return mapper.readValue(parser, KmdbResponse.class);
+        } catch (IOException e) {
             throw new RuntimeException("KMDB JSON 파싱 실패", e);
         }
     }
+
+    static ObjectMapper mapper() {
+        return mapper;
+    }
 }
@@ -24,6 +24,10 @@ public class KmdbRequest {
     private String releaseDts;   // 개봉일 시작 YYYYMMDD
     private String releaseDte;   // 개봉일 끝   YYYYMMDD
 
+    // ✅ 수정일 검색 (updateDts / updateDte) - 증분 동기화
+    private String updateDts;    // 수정일 시작 YYYYMMDD
+    private String updateDte;    // 수정일 끝   YYYYMMDD
+
     // ✅ 페이징
     private Integer listCount;
     private Integer startCount;
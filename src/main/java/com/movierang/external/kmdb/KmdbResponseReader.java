@@ -0,0 +1,73 @@
+package com.movierang.external.kmdb;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * KMDB 검색 응답 스트리밍 디코더
+ *
+ * - 응답 전체를 KmdbResponse 로 올리지 않고 Result 객체를 하나씩 읽어 바로 넘김
+ * - 제어 문자는 바이트 단위 필터로 제거 (ControlCharFilterInputStream)
+ * - 페이지당 메모리: 입력 버퍼 + Result 한 건 (결과 목록은 호출자가 관리)
+ */
+public final class KmdbResponseReader {
+
+    private KmdbResponseReader() {
+    }
+
+    /**
+     * @param in       응답 본문 (닫는 것은 호출자 책임)
+     * @param consumer Result 한 건씩 호출
+     * @return 전체 건수 (최상위 TotalCount 와 컬렉션별 TotalCount 중 큰 값)
+     */
+    public static int read(InputStream in, Consumer<KmdbResponse.Result> consumer) {
+        ObjectMapper mapper = KmdbApiClient.mapper();
+        try (JsonParser parser = mapper.createParser(new ControlCharFilterInputStream(in))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("KMDB 응답이 비정상입니다.");
+            }
+            int totalCount = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("TotalCount".equalsIgnoreCase(field) && value.isNumeric()) {
+                    totalCount = Math.max(totalCount, parser.getIntValue());
+                } else if ("Data".equalsIgnoreCase(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        totalCount = Math.max(totalCount, readData(parser, mapper, consumer));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return totalCount;
+        } catch (IOException e) {
+            throw new RuntimeException("KMDB JSON 파싱 실패", e);
+        }
+    }
+
+    // Data 한 건 (컬렉션): Result 배열을 한 건씩 읽음
+    private static int readData(JsonParser parser, ObjectMapper mapper,
+                                Consumer<KmdbResponse.Result> consumer) throws IOException {
+        int totalCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("TotalCount".equalsIgnoreCase(field) && value.isNumeric()) {
+                totalCount = parser.getIntValue();
+            } else if ("Result".equalsIgnoreCase(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(mapper.readValue(parser, KmdbResponse.Result.class));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalCount;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
@@ -14,6 +15,12 @@ public class KobisApiClient {
     private String KOBIS_API_KEY;
 
     public KobisDailyResponse getDailyBoxOffice(String date) {
+        return getDailyBoxOfficeAsync(date)
+                .block(); // → 동기로 변환 (너는 동기면 충분)
+    }
+
+    // 논블로킹 조회 (백필 등 여러 날짜 동시 조회용)
+    public Mono<KobisDailyResponse> getDailyBoxOfficeAsync(String date) {
         return kobisWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/boxoffice/searchDailyBoxOfficeList.json")
@@ -21,7 +28,6 @@ public class KobisApiClient {
                         .queryParam("targetDt", date)
                         .build())
                 .retrieve()
-                .bodyToMono(KobisDailyResponse.class)
-                .block(); // → 동기로 변환 (너는 동기면 충분)
+                .bodyToMono(KobisDailyResponse.class);
     }
 }
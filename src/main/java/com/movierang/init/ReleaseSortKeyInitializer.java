@@ -0,0 +1,51 @@
+package com.movierang.init;
+
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieReleaseDateRow;
+import com.movierang.util.ReleaseDateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * release_sort_key 백필
+ *
+ * 컬럼 추가 이전에 저장된 영화는 값이 비어 있으므로 기동 시 한 번 채운다.
+ * 채워진 행은 조회 대상에서 빠지므로 항상 첫 페이지만 반복 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleaseSortKeyInitializer implements CommandLineRunner {
+    private static final int BATCH_SIZE = 1000;
+
+    private final MovieRepository movieRepository;
+
+    @Override
+    public void run(String... args) {
+        int total = 0;
+
+        while (true) {
+            List<MovieReleaseDateRow> rows = movieRepository.findWithoutReleaseSortKey(PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) break;
+
+            Map<Integer, List<Long>> idsByKey = rows.stream()
+                    .collect(Collectors.groupingBy(
+                            row -> ReleaseDateUtils.toSortKey(row.getRepRlsDate()),
+                            Collectors.mapping(MovieReleaseDateRow::getId, Collectors.toList())));
+
+            idsByKey.forEach(movieRepository::updateReleaseSortKey);
+            total += rows.size();
+        }
+
+        if (total > 0) {
+            log.info("release_sort_key 백필 완료 - {}건", total);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.movierang.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * movie.docId / person.kmdbPersonId 유니크 인덱스 보장
+ *
+ * 일괄 저장은 ON CONFLICT (docId/kmdbPersonId) 로 충돌 대상을 지정하므로 유니크 인덱스가 반드시 있어야 한다.
+ * ddl-auto=update 는 기존 중복 행이 있으면 인덱스 생성에 실패하고 로그만 남기므로,
+ * 기동 시 중복을 정리(참조 행은 남길 영화/인물로 옮김)한 뒤 인덱스를 직접 만든다.
+ * 전체를 한 트랜잭션으로 실행하고, 다른 초기화(영화 저장)보다 먼저 돈다.
+ * 테스트용 H2 는 create-drop 으로 엔티티의 유니크 인덱스가 항상 만들어지므로 건너뛴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UniqueKeyInitializer implements CommandLineRunner {
+    private static final String SCRIPT = "db/unique-keys-postgresql.sql";
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equals(product)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SCRIPT));
+        transactionTemplate.executeWithoutResult(status -> populator.execute(dataSource));
+        log.info("docId/kmdbPersonId 중복 정리 및 유니크 인덱스 확인 완료 - {}ms", System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,27 @@
+package com.movierang.repository;
+
+import com.movierang.entity.BoxOfficeDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BoxOfficeDailyRepository extends JpaRepository<BoxOfficeDaily, Long> {
+
+    List<BoxOfficeDaily> findByTargetDtOrderByRankAsc(LocalDate targetDt);
+
+    // 백필 시 이미 저장된 날짜 제외용
+    @Query("SELECT DISTINCT b.targetDt FROM BoxOfficeDaily b WHERE b.targetDt BETWEEN :from AND :to")
+    List<LocalDate> findStoredDates(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT MAX(b.targetDt) FROM BoxOfficeDaily b")
+    Optional<LocalDate> findLatestTargetDt();
+
+    @Modifying
+    @Query("DELETE FROM BoxOfficeDaily b WHERE b.targetDt = :targetDt")
+    int deleteByTargetDt(@Param("targetDt") LocalDate targetDt);
+}
@@ -0,0 +1,16 @@
+package com.movierang.repository;
+
+import com.movierang.entity.BoxOfficeEmptyDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BoxOfficeEmptyDayRepository extends JpaRepository<BoxOfficeEmptyDay, LocalDate> {
+
+    // 백필 시 이미 확인한 빈 날짜 제외용
+    @Query("SELECT e.targetDt FROM BoxOfficeEmptyDay e WHERE e.targetDt BETWEEN :from AND :to")
+    List<LocalDate> findTargetDts(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
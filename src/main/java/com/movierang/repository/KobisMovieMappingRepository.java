@@ -0,0 +1,17 @@
+package com.movierang.repository;
+
+import com.movierang.entity.KobisMovieMapping;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface KobisMovieMappingRepository extends JpaRepository<KobisMovieMapping, String> {
+
+    // movieCd 목록 → [movieCd, MovieEntity] (PK 조인 한 번으로 조회)
+    @Query("SELECT k.movieCd, m FROM KobisMovieMapping k JOIN MovieEntity m ON m.id = k.movieId " +
+            "WHERE k.movieCd IN :movieCds")
+    List<Object[]> findMappedMovies(@Param("movieCds") Collection<String> movieCds);
+}
@@ -0,0 +1,287 @@
+package com.movierang.repository;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.util.MovieContentHash;
+import com.movierang.util.ReleaseDateUtils;
+import lombok.Getter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * KMDB 동기화용 JDBC 일괄 저장
+ *
+ * - 영화/인물/출연 행을 JDBC batch 로 INSERT (IDENTITY 로 막히는 Hibernate insert batching 우회)
+ * - 내용 해시가 바뀐 기존 영화만 batch UPDATE, 출연 행은 차이만 DELETE/INSERT
+ * - INSERT ... ON CONFLICT (docId/kmdbPersonId) DO NOTHING: 동시 실행 등으로 이미 들어간 키는 건너뜀
+ *   (충돌 대상을 지정하므로 유니크 인덱스가 없으면 조용히 중복 저장하지 않고 실패함 - 인덱스는 UniqueKeyInitializer 가 보장)
+ * - 생성된 ID 는 행마다 받지 않고 키 목록 IN 조회 한 번으로 확인
+ * - 트랜잭션은 호출자(MovieSyncService)가 관리
+ */
+@Repository
+public class MovieBulkRepository {
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final int DOC_ID_FETCH_SIZE = 5000;
+
+    private static final String INSERT_MOVIE = """
+            INSERT INTO movie (movieId, movieSeq, docId, title, titleEng, titleOrg, titleEtc, prodYear, nation,
+                               company, genre, rating, repRlsDate, runtime, release_sort_key, plot, type, useType,
+                               kmdbUrl, keywords, modDate, poster, posters, stills, vodUrls, contentHash)
+            VALUES (:movieId, :movieSeq, :docId, :title, :titleEng, :titleOrg, :titleEtc, :prodYear, :nation,
+                    :company, :genre, :rating, :repRlsDate, :runtime, :releaseSortKey, :plot, :type, :useType,
+                    :kmdbUrl, :keywords, :modDate, :poster, :posters, :stills, :vodUrls, :contentHash)
+            """;
+
+    // 포스터는 KMDB 가 비워서 내려줘도 기존 값 유지
+    private static final String UPDATE_MOVIE = """
+            UPDATE movie SET movieId = :movieId, movieSeq = :movieSeq, title = :title, titleEng = :titleEng,
+                             titleOrg = :titleOrg, titleEtc = :titleEtc, prodYear = :prodYear, nation = :nation,
+                             company = :company, genre = :genre, rating = :rating, repRlsDate = :repRlsDate,
+                             runtime = :runtime, release_sort_key = :releaseSortKey, plot = :plot, type = :type,
+                             useType = :useType, kmdbUrl = :kmdbUrl, keywords = :keywords, modDate = :modDate,
+                             poster = COALESCE(:poster, poster), posters = :posters, stills = :stills,
+                             vodUrls = :vodUrls, contentHash = :contentHash
+            WHERE id = :id
+            """;
+
+    private static final String INSERT_PERSON = """
+            INSERT INTO person (kmdbPersonId, name, nameEn)
+            VALUES (:kmdbPersonId, :name, :nameEn)
+            """;
+
+    private static final String INSERT_MOVIE_PERSON = """
+            INSERT INTO movie_person (movie_id, person_id, roleGroup, roleName)
+            VALUES (:movieId, :personId, :roleGroup, :roleName)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertMovieSql;
+    private final String insertPersonSql;
+
+    public MovieBulkRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // H2(테스트, PostgreSQL 모드)는 충돌 대상 없는 ON CONFLICT DO NOTHING 만 지원
+        boolean h2 = "H2".equals(databaseProductName(jdbcTemplate));
+        this.insertMovieSql = INSERT_MOVIE + (h2 ? "ON CONFLICT DO NOTHING" : "ON CONFLICT (docId) DO NOTHING");
+        this.insertPersonSql = INSERT_PERSON + (h2 ? "ON CONFLICT DO NOTHING" : "ON CONFLICT (kmdbPersonId) DO NOTHING");
+    }
+
+    private static String databaseProductName(NamedParameterJdbcTemplate jdbcTemplate) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류 확인 실패", e);
+        }
+    }
+
+    // 전체 docId 순회 (동기화 시작 시 docId 필터 구성용, 한 번에 다 올리지 않고 fetch size 단위로 읽음)
+    // PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetch size 를 지키므로 호출자가 트랜잭션을 열어야 함
+    public void forEachDocId(Consumer<String> consumer) {
+        jdbcTemplate.getJdbcOperations().query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT docId FROM movie WHERE docId IS NOT NULL");
+            ps.setFetchSize(DOC_ID_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    // docId → 영화 ID (없는 docId 는 제외)
+    public Map<String, Long> findMovieIdsByDocIds(Collection<String> docIds) {
+        Map<String, Long> result = new HashMap<>();
+        for (List<String> chunk : chunks(docIds)) {
+            jdbcTemplate.query("SELECT id, docId FROM movie WHERE docId IN (:docIds)",
+                    Map.of("docIds", chunk),
+                    rs -> {
+                        result.put(rs.getString(2), rs.getLong(1));
+                    });
+        }
+        return result;
+    }
+
+    // docId → 저장된 영화 ID/내용 해시 (없는 docId 는 제외)
+    public Map<String, StoredMovie> findStoredMoviesByDocIds(Collection<String> docIds) {
+        Map<String, StoredMovie> result = new HashMap<>();
+        for (List<String> chunk : chunks(docIds)) {
+            jdbcTemplate.query("SELECT id, docId, contentHash FROM movie WHERE docId IN (:docIds)",
+                    Map.of("docIds", chunk),
+                    rs -> {
+                        result.put(rs.getString(2), new StoredMovie(rs.getLong(1), rs.getString(3)));
+                    });
+        }
+        return result;
+    }
+
+    // 영화들의 현재 출연 행
+    public List<StoredMoviePerson> findMoviePersons(Collection<Long> movieIds) {
+        List<StoredMoviePerson> result = new ArrayList<>();
+        for (List<Long> chunk : chunks(movieIds)) {
+            jdbcTemplate.query("SELECT id, movie_id, person_id, roleGroup, roleName FROM movie_person " +
+                            "WHERE movie_id IN (:movieIds)",
+                    Map.of("movieIds", chunk),
+                    rs -> {
+                        result.add(new StoredMoviePerson(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                                rs.getString(4), rs.getString(5)));
+                    });
+        }
+        return result;
+    }
+
+    // kmdbPersonId → 인물 ID (없는 키는 제외)
+    public Map<String, Long> findPersonIdsByKeys(Collection<String> keys) {
+        Map<String, Long> result = new HashMap<>();
+        for (List<String> chunk : chunks(keys)) {
+            jdbcTemplate.query("SELECT id, kmdbPersonId FROM person WHERE kmdbPersonId IN (:keys)",
+                    Map.of("keys", chunk),
+                    rs -> {
+                        result.put(rs.getString(2), rs.getLong(1));
+                    });
+        }
+        return result;
+    }
+
+    // 실제로 INSERT 된 docId 반환 (ON CONFLICT 로 건너뛴 행 제외)
+    public Set<String> insertMovies(List<KmdbMovieDto> movies) {
+        if (movies.isEmpty()) return Set.of();
+        SqlParameterSource[] params = movies.stream()
+                .map(MovieBulkRepository::movieParams)
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(insertMovieSql, params);
+
+        Set<String> inserted = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {   // 드라이버가 건수를 주지 않는 경우(SUCCESS_NO_INFO)도 저장으로 간주
+                inserted.add(movies.get(i).getDocId());
+            }
+        }
+        return inserted;
+    }
+
+    // 내용이 바뀐 기존 영화 갱신 (영화 ID → 새 내용)
+    public int updateMovies(Map<Long, KmdbMovieDto> moviesById) {
+        if (moviesById.isEmpty()) return 0;
+        SqlParameterSource[] params = moviesById.entrySet().stream()
+                .map(e -> movieParams(e.getValue()).addValue("id", e.getKey()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_MOVIE, params);
+        return moviesById.size();
+    }
+
+    public void insertPersons(Collection<PersonRow> persons) {
+        if (persons.isEmpty()) return;
+        SqlParameterSource[] params = persons.stream()
+                .map(p -> new MapSqlParameterSource()
+                        .addValue("kmdbPersonId", p.getKmdbPersonId())
+                        .addValue("name", p.getName())
+                        .addValue("nameEn", p.getNameEn()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(insertPersonSql, params);
+    }
+
+    public void deleteMoviePersons(Collection<Long> ids) {
+        for (List<Long> chunk : chunks(ids)) {
+            jdbcTemplate.update("DELETE FROM movie_person WHERE id IN (:ids)", Map.of("ids", chunk));
+        }
+    }
+
+    public void insertMoviePersons(List<MoviePersonRow> rows) {
+        if (rows.isEmpty()) return;
+        SqlParameterSource[] params = rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("movieId", r.getMovieId())
+                        .addValue("personId", r.getPersonId())
+                        .addValue("roleGroup", r.getRoleGroup())
+                        .addValue("roleName", r.getRoleName()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_MOVIE_PERSON, params);
+    }
+
+    private static MapSqlParameterSource movieParams(KmdbMovieDto dto) {
+        return new MapSqlParameterSource()
+                .addValue("movieId", dto.getMovieId())
+                .addValue("movieSeq", dto.getMovieSeq())
+                .addValue("docId", dto.getDocId())
+                .addValue("title", trim(dto.getTitle()))
+                .addValue("titleEng", trim(dto.getTitleEng()))
+                .addValue("titleOrg", trim(dto.getTitleOrg()))
+                .addValue("titleEtc", trim(dto.getTitleEtc()))
+                .addValue("prodYear", dto.getProdYear())
+                .addValue("nation", dto.getNation())
+                .addValue("company", dto.getCompany())
+                .addValue("genre", dto.getGenre())
+                .addValue("rating", dto.getRating())
+                .addValue("repRlsDate", dto.getRepRlsDate())
+                .addValue("runtime", dto.getRuntime())
+                .addValue("releaseSortKey", ReleaseDateUtils.toSortKey(dto.getRepRlsDate()))
+                .addValue("plot", dto.getPlot())
+                .addValue("type", dto.getType())
+                .addValue("useType", dto.getUseType())
+                .addValue("kmdbUrl", dto.getKmdbUrl())
+                .addValue("keywords", dto.getKeywords())
+                .addValue("modDate", dto.getModDate())
+                .addValue("poster", dto.getPoster())
+                .addValue("posters", joinWithPipe(dto.getPosters()))
+                .addValue("stills", joinWithPipe(dto.getStills()))
+                .addValue("vodUrls", joinWithPipe(dto.getVodUrls()))
+                .addValue("contentHash", MovieContentHash.of(dto));
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private static String joinWithPipe(List<String> urls) {
+        return urls == null || urls.isEmpty() ? null : String.join("|", urls);
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CHUNK_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + IN_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredMovie {
+        private final long id;
+        private final String contentHash;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredMoviePerson {
+        private final long id;
+        private final long movieId;
+        private final long personId;
+        private final String roleGroup;
+        private final String roleName;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PersonRow {
+        private final String kmdbPersonId;
+        private final String name;
+        private final String nameEn;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class MoviePersonRow {
+        private final long movieId;
+        private final long personId;
+        private final String roleGroup;
+        private final String roleName;
+    }
+}
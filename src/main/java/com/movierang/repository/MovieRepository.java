@@ -1,14 +1,20 @@
 package com.movierang.repository;
 
 import com.movierang.entity.MovieEntity;
+import com.movierang.repository.projection.MovieReleaseDateRow;
+import com.movierang.repository.projection.MovieCursorRow;
+import com.movierang.repository.projection.MovieSummaryRow;
+import com.movierang.repository.projection.MovieTitleRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,55 +40,106 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
     @Query("UPDATE MovieEntity m SET m.poster = :poster WHERE m.docId = :docId AND m.poster IS NULL")
     void updatePosterByDocId(@Param("docId") String docId, @Param("poster") String poster);
 
-    List<MovieEntity> findAllByTitleContainingIgnoreCase(String title);
+    List<MovieSummaryRow> findAllByTitleContainingIgnoreCase(String title);
 
-    // 현재 상영작 조회 (00 처리)
+    // 목록용 일괄 조회 (TEXT 컬럼 제외)
+    @Query("SELECT m.id AS id, m.title AS title, m.genre AS genre, m.poster AS poster, " +
+            "m.rating AS rating, m.repRlsDate AS repRlsDate FROM MovieEntity m WHERE m.id IN :ids")
+    List<MovieSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 제목 색인 구성용 (TEXT 컬럼 제외)
+    @Query("SELECT m.id AS id, m.title AS title, m.titleEng AS titleEng, m.titleOrg AS titleOrg, " +
+            "m.titleEtc AS titleEtc, m.repRlsDate AS repRlsDate FROM MovieEntity m")
+    List<MovieTitleRow> findAllTitleRows();
+
+    // 개봉일 정렬 키 백필 대상
+    @Query("SELECT m.id AS id, m.repRlsDate AS repRlsDate FROM MovieEntity m WHERE m.releaseSortKey IS NULL")
+    List<MovieReleaseDateRow> findWithoutReleaseSortKey(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MovieEntity m SET m.releaseSortKey = :releaseSortKey WHERE m.id IN :ids")
+    int updateReleaseSortKey(@Param("releaseSortKey") int releaseSortKey, @Param("ids") List<Long> ids);
+
+    /*
+     * 개봉일 조건은 release_sort_key 인덱스 범위로 처리
+     * - 일자 미정(00) 영화는 yyyymm99 로 저장되므로, 이번 달 일자 미정(:undatedThisMonth)은 별도로 현재 상영작에 포함
+     *   (기존 reprlsdate <= :today 문자열 비교와 동일한 결과)
+     */
+
+    // 현재 상영작 조회 (개봉일 DESC, id DESC - 같은 개봉일도 페이지 사이에 순서가 고정되도록)
     @Query(value = """
-    SELECT * FROM movie
-    WHERE reprlsdate <= :today
-    ORDER BY
-        CASE
-            WHEN SUBSTRING(reprlsdate, 7, 2) = '00'
-            THEN SUBSTRING(reprlsdate, 1, 6) || '99'
-            ELSE reprlsdate
-        END DESC
+    SELECT id, title, genre, poster, rating, reprlsdate AS "repRlsDate" FROM movie
+    WHERE (release_sort_key > 0 AND release_sort_key <= :today)
+       OR release_sort_key = :undatedThisMonth
+    ORDER BY release_sort_key DESC, id DESC
     """,
             countQuery = """
     SELECT COUNT(*) FROM movie
-    WHERE reprlsdate <= :today
+    WHERE (release_sort_key > 0 AND release_sort_key <= :today)
+       OR release_sort_key = :undatedThisMonth
     """,
             nativeQuery = true)
-    Page<MovieEntity> findNowPlayingMovies(@Param("today") String today, Pageable pageable);
+    Page<MovieSummaryRow> findNowPlayingMovies(@Param("today") int today,
+                                           @Param("undatedThisMonth") int undatedThisMonth,
+                                           Pageable pageable);
 
-    // 개봉 예정작 조회 (00 처리)
+    // 개봉 예정작 조회 (개봉일 ASC, id ASC)
     @Query(value = """
-    SELECT * FROM movie
-    WHERE reprlsdate > :today
-    ORDER BY
-        CASE
-            WHEN SUBSTRING(reprlsdate, 7, 2) = '00'
-            THEN SUBSTRING(reprlsdate, 1, 6) || '99'
-            ELSE reprlsdate
-        END ASC
+    SELECT id, title, genre, poster, rating, reprlsdate AS "repRlsDate" FROM movie
+    WHERE release_sort_key > :today
+      AND release_sort_key <> :undatedThisMonth
+    ORDER BY release_sort_key ASC, id ASC
     """,
             countQuery = """
     SELECT COUNT(*) FROM movie
-    WHERE reprlsdate > :today
+    WHERE release_sort_key > :today
+      AND release_sort_key <> :undatedThisMonth
+    """,
+            nativeQuery = true)
+    Page<MovieSummaryRow> findUpcomingMovies(@Param("today") int today,
+                                         @Param("undatedThisMonth") int undatedThisMonth,
+                                         Pageable pageable);
+
+    // 현재 상영작 키셋 페이징 (개봉일 DESC, id DESC)
+    @Query(value = """
+    SELECT id, title, genre, poster, rating, reprlsdate AS "repRlsDate", release_sort_key AS "releaseSortKey" FROM movie
+    WHERE ((release_sort_key > 0 AND release_sort_key <= :today) OR release_sort_key = :undatedThisMonth)
+      AND (release_sort_key < :cursorKey
+           OR (release_sort_key = :cursorKey AND id < :cursorId))
+    ORDER BY release_sort_key DESC, id DESC
+    LIMIT :limit
+    """,
+            nativeQuery = true)
+    List<MovieCursorRow> findNowPlayingAfter(@Param("today") int today,
+                                          @Param("undatedThisMonth") int undatedThisMonth,
+                                          @Param("cursorKey") int cursorKey,
+                                          @Param("cursorId") long cursorId,
+                                          @Param("limit") int limit);
+
+    // 개봉 예정작 키셋 페이징 (개봉일 ASC, id ASC)
+    @Query(value = """
+    SELECT id, title, genre, poster, rating, reprlsdate AS "repRlsDate", release_sort_key AS "releaseSortKey" FROM movie
+    WHERE release_sort_key > :today
+      AND release_sort_key <> :undatedThisMonth
+      AND (release_sort_key > :cursorKey
+           OR (release_sort_key = :cursorKey AND id > :cursorId))
+    ORDER BY release_sort_key ASC, id ASC
+    LIMIT :limit
     """,
             nativeQuery = true)
-    Page<MovieEntity> findUpcomingMovies(@Param("today") String today, Pageable pageable);
+    List<MovieCursorRow> findUpcomingAfter(@Param("today") int today,
+                                        @Param("undatedThisMonth") int undatedThisMonth,
+                                        @Param("cursorKey") int cursorKey,
+                                        @Param("cursorId") long cursorId,
+                                        @Param("limit") int limit);
 
-    // 영화 검색 (제목, 영어제목 포함)
+    // 영화 검색 (제목, 영어제목 포함) - 제목 색인 미준비 시 대체 경로
     @Query(value = """
-    SELECT * FROM movie
+    SELECT id, title, genre, poster, rating, reprlsdate AS "repRlsDate" FROM movie
     WHERE title ILIKE %:keyword%
        OR title_eng ILIKE %:keyword%
-    ORDER BY
-        CASE
-            WHEN SUBSTRING(reprlsdate, 7, 2) = '00'
-            THEN SUBSTRING(reprlsdate, 1, 6) || '99'
-            ELSE reprlsdate
-        END DESC
+    ORDER BY release_sort_key DESC NULLS LAST
     """,
             countQuery = """
     SELECT COUNT(*) FROM movie
@@ -90,5 +147,5 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
        OR title_eng ILIKE %:keyword%
     """,
             nativeQuery = true)
-    Page<MovieEntity> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    Page<MovieSummaryRow> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 }
@@ -0,0 +1,73 @@
+package com.movierang.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 조회수 누적분 일괄 반영 (ViewCountBuffer flush 용)
+ *
+ * - 영화별 증가분을 JDBC batch UPDATE 한 번으로 더함 (엔티티 조회/낙관적 락 재시도 없음)
+ * - version 도 올려 찜 경로(MovieStats 엔티티 저장)가 옛 조회수로 덮어쓰지 않도록 함
+ * - movie_stats 행이 없는 영화는 INSERT ... ON CONFLICT DO NOTHING
+ * - 트랜잭션은 호출자(ViewCountBuffer)가 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieStatsBulkRepository {
+
+    private static final String ADD_VIEW_COUNT = """
+            UPDATE movie_stats SET viewCount = viewCount + :delta, version = COALESCE(version, 0) + 1
+            WHERE movie_id = :movieId
+            """;
+
+    private static final String INSERT_VIEW_COUNT = """
+            INSERT INTO movie_stats (movie_id, viewCount, wishlistCount, version)
+            VALUES (:movieId, :delta, 0, 0)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 증가분 더하기
+     *
+     * @return movie_stats 행이 없어 반영하지 못한 영화 ID
+     */
+    public Set<Long> addViewCounts(Map<Long, Long> deltas) {
+        return batch(ADD_VIEW_COUNT, deltas);
+    }
+
+    /**
+     * 행이 없던 영화의 조회수 행 생성
+     *
+     * @return 그 사이 다른 곳에서 행이 생겨 INSERT 를 건너뛴 영화 ID (다시 addViewCounts 필요)
+     */
+    public Set<Long> insertViewCounts(Map<Long, Long> deltas) {
+        return batch(INSERT_VIEW_COUNT, deltas);
+    }
+
+    // 반영된 행이 0 인 영화 ID (드라이버가 건수를 주지 않는 경우(SUCCESS_NO_INFO)는 반영으로 간주)
+    private Set<Long> batch(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return Set.of();
+        List<Long> movieIds = new ArrayList<>(deltas.keySet());
+        SqlParameterSource[] params = movieIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("movieId", id)
+                        .addValue("delta", deltas.get(id)))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(sql, params);
+
+        Set<Long> missed = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missed.add(movieIds.get(i));
+            }
+        }
+        return missed;
+    }
+}
@@ -1,7 +1,15 @@
 package com.movierang.repository;
 
 import com.movierang.entity.MovieStats;
+import com.movierang.repository.projection.MovieViewCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface MovieStatsRepository extends JpaRepository<MovieStats, Long> {
+
+    // 자동완성 랭킹용 조회수
+    @Query("SELECT s.movieId AS movieId, s.viewCount AS viewCount FROM MovieStats s")
+    List<MovieViewCountRow> findAllViewCounts();
 }
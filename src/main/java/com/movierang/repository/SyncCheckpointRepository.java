@@ -0,0 +1,12 @@
+package com.movierang.repository;
+
+import com.movierang.entity.SyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, String> {
+
+    // 끝나지 않은 가장 최근 체크포인트 (예: 증분 동기화 "update:" 범위)
+    Optional<SyncCheckpoint> findFirstByRangeKeyStartingWithAndStatusNotOrderByUpdatedAtDesc(String prefix, String status);
+}
@@ -0,0 +1,7 @@
+package com.movierang.repository;
+
+import com.movierang.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermark, String> {
+}
@@ -0,0 +1,10 @@
+package com.movierang.repository.projection;
+
+/**
+ * 키셋 페이징용 목록 projection (다음 커서를 저장된 release_sort_key 로 만들기 위해 함께 조회)
+ *
+ * 네이티브 쿼리에서는 release_sort_key AS "releaseSortKey" 로 별칭을 맞춘다
+ */
+public interface MovieCursorRow extends MovieSummaryRow {
+    int getReleaseSortKey();
+}
@@ -0,0 +1,15 @@
+package com.movierang.repository.projection;
+
+/**
+ * 목록 화면용 projection (plot, keywords, posters, stills, vodUrls 등 TEXT 컬럼 제외)
+ *
+ * 네이티브 쿼리에서는 컬럼 별칭을 getter 이름과 맞춘다 (예: reprlsdate AS "repRlsDate")
+ */
+public interface MovieSummaryRow {
+    Long getId();
+    String getTitle();
+    String getGenre();
+    String getPoster();
+    String getRating();
+    String getRepRlsDate();
+}
@@ -0,0 +1,13 @@
+package com.movierang.repository.projection;
+
+/**
+ * 제목 인덱스 구성용 projection (TEXT 컬럼 제외)
+ */
+public interface MovieTitleRow {
+    Long getId();
+    String getTitle();
+    String getTitleEng();
+    String getTitleOrg();
+    String getTitleEtc();
+    String getRepRlsDate();
+}
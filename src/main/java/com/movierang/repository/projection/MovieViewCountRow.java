@@ -0,0 +1,6 @@
+package com.movierang.repository.projection;
+
+public interface MovieViewCountRow {
+    Long getMovieId();
+    Long getViewCount();
+}
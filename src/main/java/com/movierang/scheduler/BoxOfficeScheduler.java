@@ -1,28 +1,29 @@
 package com.movierang.scheduler;
 
-import com.movierang.service.MovieSyncService;
+import com.movierang.service.BoxOfficeService;
+import com.movierang.service.KmdbIncrementalSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BoxOfficeScheduler {
 
-    private final MovieSyncService movieSyncService;
+    private final KmdbIncrementalSyncService kmdbIncrementalSyncService;
+    private final BoxOfficeService boxOfficeService;
 
     @Scheduled(cron = "0 0 3 * * *")
-    @CacheEvict(value = "dailyBoxOffice", allEntries = true)
     public void dailyUpdate() {
-        int year = LocalDate.now().getYear();
-        log.info("일일 업데이트 시작 - 박스오피스 캐시 삭제, KMDB {}년 sync", year);
+        log.info("일일 업데이트 시작 - 박스오피스 만료 처리, KMDB 증분 sync");
+
+        // 이전 결과는 갱신이 끝날 때까지 계속 사용
+        boxOfficeService.invalidate();
 
-        movieSyncService.syncMoviesByYear(year);
+        // 마지막 수정일 이후 변경분만 조회 (주 1회 올해 전체 조회)
+        kmdbIncrementalSyncService.run(false);
 
         log.info("일일 업데이트 완료");
     }
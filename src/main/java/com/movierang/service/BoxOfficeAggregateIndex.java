@@ -0,0 +1,300 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.entity.BoxOfficeDaily;
+import com.movierang.event.BoxOfficeDailySavedEvent;
+import com.movierang.repository.BoxOfficeDailyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별 박스오피스 집계 색인 (메모리)
+ *
+ * - 영화(movieCd)별로 날짜 순 관객수/매출액 배열과 누적합(prefix sum) 배열을 유지
+ * - 기간 합계 = 누적합[끝] - 누적합[시작] → 영화당 O(1), 전체 영화 수만큼만 순회
+ * - 일별 박스오피스가 저장되면(BoxOfficeDailySavedEvent) 해당 날짜만 교체하고 그 이후 누적합만 다시 계산
+ * - 저장된 일별 순위(1~10위) 기준 집계이므로 순위 밖 날짜의 관객수는 포함되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeAggregateIndex {
+    private final BoxOfficeDailyRepository boxOfficeDailyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private boolean ready = false;
+
+    // 재구성 중 들어온 날짜 (재구성 완료 후 반영)
+    private List<BoxOfficeDailySavedEvent> pending = null;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        int days;
+        try {
+            Map<LocalDate, List<BoxOfficeItemDto>> byDate = boxOfficeDailyRepository
+                    .findAll(Sort.by("targetDt", "rank")).stream()
+                    .collect(Collectors.groupingBy(BoxOfficeDaily::getTargetDt, TreeMap::new,
+                            Collectors.mapping(BoxOfficeDaily::toItem, Collectors.toList())));
+            byDate.forEach(fresh::replaceDay);
+            days = byDate.size();
+        } catch (Exception e) {
+            log.error("박스오피스 집계 색인 구성 실패", e);
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(event -> fresh.replaceDay(event.getTargetDt(), event.getItems()));
+            pending = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("박스오피스 집계 색인 구성 완료 - {}일, 영화 {}편, {}ms",
+                days, fresh.seriesByMovieCd.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커밋 이후 반영 (기간 캐시 삭제보다 먼저)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onBoxOfficeDailySaved(BoxOfficeDailySavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            state.replaceDay(event.getTargetDt(), event.getItems());
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 합계 (관객수 내림차순, 같으면 매출액 내림차순)
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     */
+    public List<Aggregate> aggregate(LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+
+        lock.readLock().lock();
+        try {
+            List<Aggregate> result = new ArrayList<>();
+            for (Series series : state.seriesByMovieCd.values()) {
+                Aggregate aggregate = series.sum(fromDay, toDay);
+                if (aggregate != null) {
+                    result.add(aggregate);
+                }
+            }
+            result.sort(Comparator.comparingLong(Aggregate::getAudiCnt).reversed()
+                    .thenComparing(Comparator.comparingLong(Aggregate::getSalesAmt).reversed()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Aggregate {
+        private final String movieCd;
+        private final String movieNm;
+        private final LocalDate openDt;
+        private final long audiCnt;     // 기간 관객수 합계
+        private final long salesAmt;    // 기간 매출액 합계
+        private final int showDays;     // 기간 내 순위에 든 날 수
+    }
+
+    // ========== 내부 구조 ==========
+
+    private static class State {
+        private final Map<String, Series> seriesByMovieCd = new HashMap<>();
+        private final Map<Long, String[]> movieCdsByDay = new HashMap<>();
+
+        // 해당 날짜 순위 전체 교체 (빠진 영화는 0으로)
+        void replaceDay(LocalDate date, List<BoxOfficeItemDto> items) {
+            long day = date.toEpochDay();
+
+            String[] previous = movieCdsByDay.get(day);
+            if (previous != null) {
+                for (String movieCd : previous) {
+                    Series series = seriesByMovieCd.get(movieCd);
+                    if (series != null) {
+                        series.clear(day);
+                    }
+                }
+            }
+
+            String[] current = new String[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                BoxOfficeItemDto item = items.get(i);
+                current[i] = item.getMovieCd();
+                seriesByMovieCd.computeIfAbsent(item.getMovieCd(), Series::new)
+                        .set(day, item);
+            }
+            movieCdsByDay.put(day, current);
+        }
+    }
+
+    /**
+     * 영화 한 편의 일별 값
+     *
+     * 배열 i번째 = start + i 일, 누적합 배열은 길이 +1 (prefix[i] = 0..i-1 합계)
+     */
+    private static class Series {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final String movieCd;
+        private String movieNm;
+        private LocalDate openDt;
+
+        private long start = Long.MIN_VALUE;
+        private int length = 0;
+        private long[] audi = new long[0];
+        private long[] sales = new long[0];
+        private boolean[] charted = new boolean[0];
+        private long[] audiPrefix = new long[1];
+        private long[] salesPrefix = new long[1];
+        private int[] daysPrefix = new int[1];
+
+        Series(String movieCd) {
+            this.movieCd = movieCd;
+        }
+
+        void set(long day, BoxOfficeItemDto item) {
+            if (item.getTitle() != null) movieNm = item.getTitle();
+            if (item.getOpenDt() != null) openDt = item.getOpenDt();
+
+            int i = ensure(day);
+            audi[i] = item.getAudiCnt() != null ? item.getAudiCnt() : 0L;
+            sales[i] = item.getSalesAmt() != null ? item.getSalesAmt() : 0L;
+            charted[i] = true;
+            updatePrefix(i);
+        }
+
+        void clear(long day) {
+            if (length == 0 || day < start || day >= start + length) return;
+            int i = (int) (day - start);
+            audi[i] = 0;
+            sales[i] = 0;
+            charted[i] = false;
+            updatePrefix(i);
+        }
+
+        Aggregate sum(long fromDay, long toDay) {
+            if (length == 0) return null;
+            long lo = Math.max(fromDay, start);
+            long hi = Math.min(toDay, start + length - 1);
+            if (lo > hi) return null;
+
+            int from = (int) (lo - start);
+            int to = (int) (hi - start) + 1;
+            int days = daysPrefix[to] - daysPrefix[from];
+            if (days == 0) return null;
+
+            return new Aggregate(movieCd, movieNm, openDt,
+                    audiPrefix[to] - audiPrefix[from],
+                    salesPrefix[to] - salesPrefix[from],
+                    days);
+        }
+
+        // day 의 배열 위치 (범위 밖이면 앞/뒤로 확장)
+        private int ensure(long day) {
+            if (length == 0) {
+                start = day;
+                length = 1;
+                resize(INITIAL_CAPACITY, 0);
+                return 0;
+            }
+            if (day < start) {
+                int shift = (int) (start - day);
+                int newLength = length + shift;
+                resize(Math.max(newLength, audi.length), shift);
+                start = day;
+                length = newLength;
+                updatePrefix(0);
+                return 0;
+            }
+            if (day >= start + length) {
+                int oldLength = length;
+                length = (int) (day - start) + 1;
+                if (length > audi.length) {
+                    resize(Math.max(length, audi.length * 2), 0);
+                }
+                updatePrefix(oldLength);
+            }
+            return (int) (day - start);
+        }
+
+        // 새 용량으로 복사 (offset 만큼 뒤로 밀어서)
+        private void resize(int capacity, int offset) {
+            long[] newAudi = new long[capacity];
+            long[] newSales = new long[capacity];
+            boolean[] newCharted = new boolean[capacity];
+            int copy = Math.min(audi.length, capacity - offset);
+            System.arraycopy(audi, 0, newAudi, offset, copy);
+            System.arraycopy(sales, 0, newSales, offset, copy);
+            System.arraycopy(charted, 0, newCharted, offset, copy);
+            audi = newAudi;
+            sales = newSales;
+            charted = newCharted;
+            audiPrefix = new long[capacity + 1];
+            salesPrefix = new long[capacity + 1];
+            daysPrefix = new int[capacity + 1];
+            updatePrefix(0);
+        }
+
+        // from 이후 누적합 재계산 (마지막 날 추가는 O(1))
+        private void updatePrefix(int from) {
+            for (int i = from; i < length; i++) {
+                audiPrefix[i + 1] = audiPrefix[i] + audi[i];
+                salesPrefix[i + 1] = salesPrefix[i] + sales[i];
+                daysPrefix[i + 1] = daysPrefix[i] + (charted[i] ? 1 : 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.exception.BadRequestException;
+import com.movierang.external.adapter.KobisAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KOBIS 일별 박스오피스 백필 (관리자 실행)
+ *
+ * - 이미 저장된 날짜(빈 목록으로 확인된 날짜 포함)는 건너뜀 → 중단된 백필은 같은 범위로 다시 실행하면 이어서 진행
+ * - WebClient 논블로킹 호출을 동시 N개로 제한해 조회 (flatMap concurrency)
+ * - 조회 결과는 BATCH_SIZE 일치씩 한 트랜잭션으로 저장
+ * - 실패한 날짜는 기록만 하고 계속 진행 (다음 실행 때 다시 조회)
+ * - 한 번에 하나의 백필만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeBackfillService {
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int MAX_CONCURRENCY = 16;
+    private static final int BATCH_SIZE = 30;
+    private static final int MAX_FAILED_DATES = 100;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final KobisAdapter kobisAdapter;
+    private final BoxOfficeHistoryService boxOfficeHistoryService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "boxoffice-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Progress> current = new AtomicReference<>();
+
+    /**
+     * 백필 시작 (비동기)
+     *
+     * @throws BadRequestException 범위가 잘못되었거나 이미 실행 중인 경우
+     */
+    public Map<String, Object> start(LocalDate from, LocalDate to, int concurrency) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+        if (to.isAfter(yesterday)) {
+            throw new BadRequestException("박스오피스는 어제 날짜까지만 조회할 수 있습니다: " + to);
+        }
+        int limit = Math.max(1, Math.min(concurrency, MAX_CONCURRENCY));
+
+        Progress progress = new Progress(from, to, limit);
+        Progress running = current.get();
+        if (running != null && running.isRunning()) {
+            throw new BadRequestException("이미 백필이 실행 중입니다: " + running.from + " ~ " + running.to);
+        }
+        if (!current.compareAndSet(running, progress)) {
+            throw new BadRequestException("이미 백필이 실행 중입니다");
+        }
+
+        executor.execute(() -> run(progress));
+        return progress.toMap();
+    }
+
+    public Optional<Map<String, Object>> getProgress() {
+        return Optional.ofNullable(current.get()).map(Progress::toMap);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Progress progress) {
+        try {
+            Set<LocalDate> stored = boxOfficeHistoryService.findStoredDates(progress.from, progress.to);
+            List<LocalDate> pending = progress.from.datesUntil(progress.to.plusDays(1))
+                    .filter(date -> !stored.contains(date))
+                    .toList();
+
+            progress.total = pending.size() + stored.size();
+            progress.skipped.set(stored.size());
+            log.info("박스오피스 백필 시작 - {} ~ {}, 대상 {}일 (저장됨 {}일 제외), 동시 {}개",
+                    progress.from, progress.to, pending.size(), stored.size(), progress.concurrency);
+
+            Flux.fromIterable(pending)
+                    .flatMap(date -> fetch(date, progress), progress.concurrency)
+                    .buffer(BATCH_SIZE)
+                    .concatMap(batch -> Mono.fromRunnable(() -> save(batch, progress))
+                            .subscribeOn(Schedulers.boundedElastic()))  // JDBC 저장은 네트워크 스레드 밖에서
+                    .blockLast();
+
+            progress.finish("COMPLETED");
+            log.info("박스오피스 백필 완료 - 저장 {}일, 빈 날짜 {}일, 실패 {}일, {}초 ({} dates/sec)",
+                    progress.saved.get(), progress.empty.get(), progress.failed.get(), progress.elapsedSeconds(),
+                    String.format("%.1f", progress.datesPerSecond()));
+        } catch (Exception e) {
+            progress.finish("FAILED");
+            progress.error = e.getMessage();
+            log.error("박스오피스 백필 실패 - {} ~ {}", progress.from, progress.to, e);
+        }
+    }
+
+    private Mono<DailyBoxOfficeResultDto> fetch(LocalDate date, Progress progress) {
+        return kobisAdapter.getDailyBoxOfficeAsync(date.format(DateTimeFormatter.BASIC_ISO_DATE))
+                .timeout(REQUEST_TIMEOUT)
+                .doOnNext(result -> progress.fetched.incrementAndGet())
+                .onErrorResume(e -> {
+                    progress.fail(date);
+                    log.warn("박스오피스 백필 조회 실패 - {}: {}", date, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void save(List<DailyBoxOfficeResultDto> batch, Progress progress) {
+        int savedDays = boxOfficeHistoryService.saveAll(batch);
+        progress.saved.addAndGet(savedDays);
+        progress.empty.addAndGet(batch.size() - savedDays);
+        log.debug("박스오피스 백필 저장 - {}일 (누적 {}일)", batch.size(), progress.saved.get());
+    }
+
+    private static final class Progress {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final int concurrency;
+        private final long startedNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private volatile int total;
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger empty = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<LocalDate> failedDates = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile long finishedNanos;
+        private volatile LocalDateTime finishedAt;
+
+        Progress(LocalDate from, LocalDate to, int concurrency) {
+            this.from = from;
+            this.to = to;
+            this.concurrency = concurrency;
+        }
+
+        boolean isRunning() {
+            return "RUNNING".equals(status);
+        }
+
+        void fail(LocalDate date) {
+            failed.incrementAndGet();
+            if (failedDates.size() < MAX_FAILED_DATES) {
+                failedDates.add(date);
+            }
+        }
+
+        void finish(String status) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        double elapsedSeconds() {
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000_000.0;
+        }
+
+        // 실제로 조회한 날짜 기준 처리량
+        double datesPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds > 0 ? fetched.get() / seconds : 0.0;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            map.put("from", from.toString());
+            map.put("to", to.toString());
+            map.put("concurrency", concurrency);
+            map.put("totalDates", total);
+            map.put("skippedDates", skipped.get());
+            map.put("fetchedDates", fetched.get());
+            map.put("savedDates", saved.get());
+            map.put("emptyDates", empty.get());
+            map.put("failedDates", failed.get());
+            synchronized (failedDates) {
+                map.put("failedDateList", failedDates.stream().map(LocalDate::toString).toList());
+            }
+            map.put("startedAt", startedAt.toString());
+            map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            map.put("elapsedSeconds", Math.round(elapsedSeconds() * 10) / 10.0);
+            map.put("datesPerSecond", Math.round(datesPerSecond() * 10) / 10.0);
+            if (error != null) {
+                map.put("error", error);
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.entity.BoxOfficeDaily;
+import com.movierang.entity.BoxOfficeEmptyDay;
+import com.movierang.event.BoxOfficeDailySavedEvent;
+import com.movierang.repository.BoxOfficeDailyRepository;
+import com.movierang.repository.BoxOfficeEmptyDayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 일별 박스오피스 저장/조회 (box_office_daily)
+ *
+ * KOBIS 에서 조회한 결과를 날짜별로 저장해 두고,
+ * 지난 날짜 조회와 KOBIS 장애 시 대체 데이터로 사용한다.
+ * 백필에서 빈 목록이 온 날짜는 box_office_empty_day 에 따로 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoxOfficeHistoryService {
+    private static final String BOX_OFFICE_TYPE = "일별 박스오피스";
+
+    private final BoxOfficeDailyRepository boxOfficeDailyRepository;
+    private final BoxOfficeEmptyDayRepository boxOfficeEmptyDayRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Optional<DailyBoxOfficeResultDto> find(LocalDate targetDt) {
+        List<BoxOfficeDaily> rows = boxOfficeDailyRepository.findByTargetDtOrderByRankAsc(targetDt);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(DailyBoxOfficeResultDto.builder()
+                .boxOfficeType(BOX_OFFICE_TYPE)
+                .showRange(targetDt.toString())
+                .dailyBoxOfficeList(rows.stream().map(BoxOfficeDaily::toItem).toList())
+                .build());
+    }
+
+    // 가장 최근에 저장된 날짜의 박스오피스
+    public Optional<DailyBoxOfficeResultDto> findLatest() {
+        return boxOfficeDailyRepository.findLatestTargetDt().flatMap(this::find);
+    }
+
+    // 저장된 날짜 + 빈 목록으로 확인된 날짜 (백필에서 다시 조회할 필요 없는 날짜)
+    public Set<LocalDate> findStoredDates(LocalDate from, LocalDate to) {
+        Set<LocalDate> dates = new HashSet<>(boxOfficeDailyRepository.findStoredDates(from, to));
+        dates.addAll(boxOfficeEmptyDayRepository.findTargetDts(from, to));
+        return dates;
+    }
+
+    /**
+     * KOBIS 조회 결과 저장 (같은 날짜는 최신 결과로 교체)
+     *
+     * 읽기 전용 트랜잭션(박스오피스 조회) 안에서 호출되어도 저장되도록 별도 트랜잭션에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(DailyBoxOfficeResultDto result) {
+        replace(result);
+    }
+
+    /**
+     * 여러 날짜를 한 트랜잭션으로 저장 (백필)
+     *
+     * 빈 목록인 날짜는 빈 날짜로 기록한다. 단, 어제 날짜는 KOBIS 집계가 아직 안 끝났을 수 있으므로 기록하지 않는다.
+     *
+     * @return 박스오피스 행이 저장된 날짜 수 (빈 날짜 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int saveAll(List<DailyBoxOfficeResultDto> results) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int savedDays = 0;
+        for (DailyBoxOfficeResultDto result : results) {
+            if (replace(result) > 0) {
+                savedDays++;
+            } else {
+                LocalDate targetDt = LocalDate.parse(result.getShowRange());
+                if (targetDt.isBefore(yesterday)) {
+                    boxOfficeEmptyDayRepository.save(BoxOfficeEmptyDay.of(targetDt));
+                }
+            }
+        }
+        return savedDays;
+    }
+
+    private int replace(DailyBoxOfficeResultDto result) {
+        if (result.getDailyBoxOfficeList() == null || result.getDailyBoxOfficeList().isEmpty()) {
+            return 0;
+        }
+        LocalDate targetDt = LocalDate.parse(result.getShowRange());
+
+        boxOfficeEmptyDayRepository.deleteById(targetDt);  // 예전에 빈 날짜로 기록됐다면 해제
+        boxOfficeDailyRepository.deleteByTargetDt(targetDt);
+        boxOfficeDailyRepository.saveAll(result.getDailyBoxOfficeList().stream()
+                .map(item -> BoxOfficeDaily.of(targetDt, item))
+                .toList());
+
+        eventPublisher.publishEvent(new BoxOfficeDailySavedEvent(targetDt, result.getDailyBoxOfficeList()));
+
+        log.debug("박스오피스 저장 - {} ({}건)", targetDt, result.getDailyBoxOfficeList().size());
+        return result.getDailyBoxOfficeList().size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.movierang.service;
+
+import com.movierang.config.CacheConfig;
+import com.movierang.dto.movie.BoxOfficeRangeResponse;
+import com.movierang.entity.MovieEntity;
+import com.movierang.event.BoxOfficeDailySavedEvent;
+import com.movierang.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간/주말/기간 박스오피스 (저장된 일별 박스오피스 집계)
+ *
+ * - 주간: 월~일, 주말: 금~일 (KOBIS 기준)
+ * - 날짜 미지정 시 가장 최근에 끝난 주/주말
+ * - 기간별 결과는 boxOfficeRange 캐시에 보관, 일별 박스오피스가 저장되면 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeRankingService {
+    private static final int TOP_N = 10;
+    private static final long MAX_RANGE_DAYS = 366 * 10;
+
+    private final BoxOfficeAggregateIndex boxOfficeAggregateIndex;
+    private final KobisMovieMappingService kobisMovieMappingService;
+    private final CacheManager cacheManager;
+
+    public BoxOfficeRangeResponse getWeekly(LocalDate date) {
+        LocalDate monday = date != null
+                ? date.with(DayOfWeek.MONDAY)
+                : lastSunday().minusDays(6);
+        return aggregate("주간 박스오피스", monday, monday.plusDays(6));
+    }
+
+    public BoxOfficeRangeResponse getWeekend(LocalDate date) {
+        LocalDate friday = date != null
+                ? date.with(DayOfWeek.FRIDAY)
+                : lastSunday().minusDays(2);
+        return aggregate("주말 박스오피스", friday, friday.plusDays(2));
+    }
+
+    public BoxOfficeRangeResponse getRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+        return aggregate("기간 박스오피스", from, to);
+    }
+
+    // 집계 색인이 먼저 갱신된 뒤 캐시 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onBoxOfficeDailySaved(BoxOfficeDailySavedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOX_OFFICE_RANGE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private BoxOfficeRangeResponse aggregate(String type, LocalDate from, LocalDate to) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOX_OFFICE_RANGE);
+        if (cache == null || !boxOfficeAggregateIndex.isReady()) {
+            return build(type, from, to);
+        }
+        return cache.get(type + ":" + from + "~" + to, () -> build(type, from, to));
+    }
+
+    private BoxOfficeRangeResponse build(String type, LocalDate from, LocalDate to) {
+        List<BoxOfficeAggregateIndex.Aggregate> top = boxOfficeAggregateIndex.aggregate(from, to).stream()
+                .limit(TOP_N)
+                .toList();
+
+        // 영화 정보는 저장된 KOBIS 매핑으로만 연결 (매핑 없는 영화는 id/poster 없음)
+        Map<String, MovieEntity> movies = kobisMovieMappingService.findMappedMovies(
+                top.stream().map(BoxOfficeAggregateIndex.Aggregate::getMovieCd).toList());
+
+        List<BoxOfficeRangeResponse.Movie> items = new ArrayList<>();
+        for (int i = 0; i < top.size(); i++) {
+            BoxOfficeAggregateIndex.Aggregate aggregate = top.get(i);
+            items.add(BoxOfficeRangeResponse.Movie.from(i + 1, aggregate, movies.get(aggregate.getMovieCd())));
+        }
+
+        log.debug("{} 집계 - {} ~ {} ({}건)", type, from, to, items.size());
+        return BoxOfficeRangeResponse.builder()
+                .boxOfficeType(type)
+                .from(from)
+                .to(to)
+                .movies(items)
+                .build();
+    }
+
+    // 가장 최근에 끝난 일요일 (오늘이 일요일이면 지난주 일요일)
+    private LocalDate lastSunday() {
+        return LocalDate.now().with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+    }
+}
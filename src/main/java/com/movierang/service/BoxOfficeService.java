@@ -1,37 +1,266 @@
 package com.movierang.service;
 
+import com.movierang.config.CacheConfig;
 import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.exception.KobisApiException;
 import com.movierang.external.adapter.KobisAdapter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
-@Service
-@RequiredArgsConstructor
+/**
+ * KOBIS 일간 박스오피스 조회 (stale-while-revalidate)
+ *
+ * - 1시간 이내 조회한 결과는 그대로 반환
+ * - 만료되었거나 날짜가 바뀌면 이전 결과를 바로 반환하고, 백그라운드에서 한 번만 갱신 (single-flight)
+ * - 갱신 실패 시 이전 결과를 계속 반환하고 1분 뒤 재시도
+ * - 갱신 완료 시 최종 응답 캐시(dailyBoxOfficeResponse) 삭제
+ * - 이전 결과가 없는 첫 조회만 갱신 완료를 기다림 (동시 요청도 KOBIS 호출은 1회)
+ * - 조회한 결과는 box_office_daily 에 저장, KOBIS 장애 시 가장 최근 저장분으로 대체
+ *
+ * boxoffice.cache.refresh-ahead=false 이면 만료 시 갱신 완료를 기다린다 (호출은 여전히 1회).
+ */
 @Slf4j
+@Service
 public class BoxOfficeService {
+    private static final Duration FRESH_DURATION = Duration.ofHours(1);
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+
     private final KobisAdapter kobisAdapter;
+    private final BoxOfficeHistoryService boxOfficeHistoryService;
+    private final CacheManager cacheManager;
+    private final boolean refreshAhead;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "boxoffice-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Snapshot> latest = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong retryAfter = new AtomicLong();
+
+    // 메트릭
+    private final Counter staleServes;
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+
+    public BoxOfficeService(KobisAdapter kobisAdapter,
+                            BoxOfficeHistoryService boxOfficeHistoryService,
+                            CacheManager cacheManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${boxoffice.cache.refresh-ahead:true}") boolean refreshAhead) {
+        this.kobisAdapter = kobisAdapter;
+        this.boxOfficeHistoryService = boxOfficeHistoryService;
+        this.cacheManager = cacheManager;
+        this.refreshAhead = refreshAhead;
+        this.staleServes = Counter.builder("boxoffice.cache.stale.served")
+                .description("만료된 박스오피스 결과를 반환한 횟수")
+                .register(meterRegistry);
+        this.refreshSuccess = Timer.builder("boxoffice.cache.refresh")
+                .description("KOBIS 박스오피스 갱신 소요 시간")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Timer.builder("boxoffice.cache.refresh")
+                .description("KOBIS 박스오피스 갱신 소요 시간")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
 
-    @Cacheable(value = "dailyBoxOffice", key = "'latest'")
     public DailyBoxOfficeResultDto getDailyBoxOffice() {
-        String yesterday = LocalDate.now().minusDays(1)
-                .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String targetDt = targetDate();
+        Snapshot current = latest.get();
+
+        if (current != null && current.isFresh(targetDt)) {
+            return current.result;
+        }
+
+        if (current != null && refreshAhead) {
+            staleServes.increment();
+            if (System.currentTimeMillis() >= retryAfter.get()) {
+                refresh(targetDt);
+            }
+            return current.result;
+        }
+
+        try {
+            return await(refresh(targetDt)).result;
+        } catch (KobisApiException e) {
+            // 첫 조회부터 KOBIS 장애 → 저장된 최근 박스오피스를 만료 상태로 사용 (1분 뒤 재시도)
+            DailyBoxOfficeResultDto stored = boxOfficeHistoryService.findLatest().orElseThrow(() -> e);
+            log.warn("KOBIS 장애 - 저장된 박스오피스({})로 대체", stored.getShowRange());
+            latest.compareAndSet(null, new Snapshot(targetDt, stored, System.currentTimeMillis(), true));
+            return stored;
+        }
+    }
 
-        log.warn("🔥🔥🔥 캐시 미스! KOBIS API 호출! 🔥🔥🔥");
-        log.info("KOBIS API 박스오피스 조회 - targetDt: {}", yesterday);
+    /**
+     * 지정 날짜 박스오피스
+     *
+     * 저장된 날짜는 DB에서 바로 반환하고, 없으면 KOBIS 조회 후 저장한다.
+     * KOBIS 장애 시 가장 최근 저장분을 반환한다 (showRange 로 실제 날짜 확인 가능).
+     */
+    public DailyBoxOfficeResultDto getDailyBoxOffice(LocalDate date) {
+        Optional<DailyBoxOfficeResultDto> stored = boxOfficeHistoryService.find(date);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
 
+        String targetDt = date.format(DateTimeFormatter.BASIC_ISO_DATE);
         try {
-            DailyBoxOfficeResultDto result = kobisAdapter.getDailyBoxOffice(yesterday);
-            log.info("KOBIS API 박스오피스 조회 완료 - {}건",
-                    result.getDailyBoxOfficeList().size());
+            log.info("KOBIS API 박스오피스 조회 - targetDt: {}", targetDt);
+            DailyBoxOfficeResultDto result = kobisAdapter.getDailyBoxOffice(targetDt);
+            saveHistory(result);
             return result;
+        } catch (KobisApiException e) {
+            DailyBoxOfficeResultDto latestStored = boxOfficeHistoryService.findLatest().orElseThrow(() -> e);
+            log.warn("KOBIS 장애 - {} 대신 저장된 박스오피스({}) 반환", date, latestStored.getShowRange());
+            return latestStored;
+        }
+    }
+
+    /**
+     * 다음 조회 시 갱신하도록 만료 처리 (이전 결과는 갱신 전까지 계속 사용)
+     */
+    public void invalidate() {
+        latest.updateAndGet(s -> s == null ? null : s.expired());
+        retryAfter.set(0);
+    }
+
+    public Map<String, Object> getStats() {
+        Snapshot current = latest.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("refreshAhead", refreshAhead);
+        stats.put("targetDt", current != null ? current.targetDt : null);
+        stats.put("fresh", current != null && current.isFresh(targetDate()));
+        stats.put("refreshing", inFlight.get() != null);
+        stats.put("staleServes", (long) staleServes.count());
+        stats.put("refreshCount", refreshSuccess.count());
+        stats.put("refreshFailures", refreshFailure.count());
+        stats.put("refreshMeanMs", refreshSuccess.mean(TimeUnit.MILLISECONDS));
+        stats.put("refreshMaxMs", refreshSuccess.max(TimeUnit.MILLISECONDS));
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 진행 중인 갱신이 있으면 그 결과를 공유
+    private CompletableFuture<Snapshot> refresh(String targetDt) {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                try {
+                    refreshExecutor.execute(() -> load(targetDt, created));
+                } catch (RejectedExecutionException e) {
+                    inFlight.compareAndSet(created, null);
+                    created.completeExceptionally(e);
+                }
+                return created;
+            }
+        }
+    }
+
+    private void load(String targetDt, CompletableFuture<Snapshot> future) {
+        long start = System.nanoTime();
+        log.info("KOBIS API 박스오피스 조회 - targetDt: {}", targetDt);
+
+        try {
+            DailyBoxOfficeResultDto result = kobisAdapter.getDailyBoxOffice(targetDt);
+            Snapshot snapshot = new Snapshot(targetDt, result, System.currentTimeMillis(), false);
+            latest.set(snapshot);
+            saveHistory(result);
+            evictResponseCache();
+
+            refreshSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("KOBIS API 박스오피스 조회 완료 - {}건", result.getDailyBoxOfficeList().size());
+            future.complete(snapshot);
+        } catch (Exception e) {
+            refreshFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            retryAfter.set(System.currentTimeMillis() + RETRY_BACKOFF.toMillis());
+            log.error("KOBIS API 박스오피스 조회 실패 - targetDt: {} (이전 결과 유지)", targetDt, e);
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.compareAndSet(future, null);
+        }
+    }
+
+    // 저장 실패는 조회 결과에 영향을 주지 않음
+    private void saveHistory(DailyBoxOfficeResultDto result) {
+        try {
+            boxOfficeHistoryService.save(result);
         } catch (Exception e) {
-            log.error("KOBIS API 박스오피스 조회 실패 - targetDt: {}", yesterday, e);
+            log.warn("박스오피스 저장 실패 - {}: {}", result.getShowRange(), e.getMessage());
+        }
+    }
+
+    private void evictResponseCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.DAILY_BOX_OFFICE_RESPONSE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Snapshot await(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
             throw e;
         }
     }
+
+    private String targetDate() {
+        return LocalDate.now().minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static final class Snapshot {
+        private final String targetDt;
+        private final DailyBoxOfficeResultDto result;
+        private final long loadedAt;
+        private final boolean expired;
+
+        Snapshot(String targetDt, DailyBoxOfficeResultDto result, long loadedAt, boolean expired) {
+            this.targetDt = targetDt;
+            this.result = result;
+            this.loadedAt = loadedAt;
+            this.expired = expired;
+        }
+
+        boolean isFresh(String today) {
+            return !expired
+                    && targetDt.equals(today)
+                    && System.currentTimeMillis() - loadedAt < FRESH_DURATION.toMillis();
+        }
+
+        Snapshot expired() {
+            return new Snapshot(targetDt, result, loadedAt, true);
+        }
+    }
 }
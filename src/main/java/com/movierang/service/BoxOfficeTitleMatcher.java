@@ -0,0 +1,235 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.entity.MovieEntity;
+import com.movierang.event.MovieSavedEvent;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * KOBIS 박스오피스 제목 → KMDB 영화 매칭 (메모리)
+ *
+ * - 정규화 키: 소문자 + 공백/문장부호 제거 ("극장판 귀멸의 칼날: 무한성편" → "극장판귀멸의칼날무한성편")
+ * - 제목(title)과 기타 제명(titleEtc, '^' 구분) 모두 키로 등록
+ * - 같은 키에 여러 편이 있으면 KOBIS 개봉연도와 가장 가까운 영화 선택
+ * - 메모리에서 찾지 못한 제목(색인 준비 전이면 전부)은 DB 에서 제목 일치(title IN, 한 번에) → 기타 제명(titleEtc LIKE) 순으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeTitleMatcher {
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final MovieRepository movieRepository;
+
+    private final Map<String, List<Candidate>> candidatesByKey = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // 매칭 통계
+    private final AtomicLong titleHits = new AtomicLong();
+    private final AtomicLong aliasHits = new AtomicLong();
+    private final AtomicLong dbTitleHits = new AtomicLong();
+    private final AtomicLong dbFallbackHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, List<Candidate>> fresh = new HashMap<>();
+            for (MovieTitleRow row : movieRepository.findAllTitleRows()) {
+                Candidate candidate = new Candidate(row.getId(), releaseYear(row.getRepRlsDate()));
+                keys(row.getTitle(), row.getTitleEtc()).forEach((key, alias) ->
+                        fresh.computeIfAbsent(key, k -> new ArrayList<>()).add(candidate.as(alias)));
+            }
+            candidatesByKey.clear();
+            fresh.forEach((key, list) -> candidatesByKey.put(key, List.copyOf(list)));
+            ready = true;
+            log.info("박스오피스 매칭 색인 구성 완료 - 키 {}개, {}ms",
+                    candidatesByKey.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("박스오피스 매칭 색인 구성 실패 - DB 매칭으로 대체합니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieSaved(MovieSavedEvent event) {
+        MovieEntity movie = event.getMovie();
+        if (movie.getId() == null) return;
+
+        Candidate candidate = new Candidate(movie.getId(), releaseYear(movie.getRepRlsDate()));
+        keys(movie.getTitle(), movie.getTitleEtc()).forEach((key, alias) -> addCandidate(key, candidate.as(alias)));
+    }
+
+    /**
+     * 박스오피스 제목별 영화 ID 매칭
+     *
+     * @return KOBIS 제목 → 영화 ID (매칭 실패한 제목은 제외)
+     */
+    public Map<String, Long> match(List<BoxOfficeItemDto> items) {
+        Map<String, Long> result = new HashMap<>();
+        List<BoxOfficeItemDto> missed = new ArrayList<>();
+
+        for (BoxOfficeItemDto item : items) {
+            if (result.containsKey(item.getTitle())) continue;
+
+            Candidate best = ready ? closest(candidatesByKey.get(normalize(item.getTitle())), item.getOpenDt()) : null;
+            if (best != null) {
+                (best.alias ? aliasHits : titleHits).incrementAndGet();
+                result.put(item.getTitle(), best.movieId);
+            } else {
+                missed.add(item);
+            }
+        }
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        // 메모리 미스 → DB 제목 일치 (미스 전체를 한 번에)
+        Map<String, List<MovieEntity>> byTitle = new HashMap<>();
+        List<String> titles = missed.stream().map(BoxOfficeItemDto::getTitle).distinct().toList();
+        for (MovieEntity movie : movieRepository.findByTitleIn(titles)) {
+            byTitle.computeIfAbsent(movie.getTitle(), t -> new ArrayList<>()).add(movie);
+        }
+
+        for (BoxOfficeItemDto item : missed) {
+            if (result.containsKey(item.getTitle())) continue;
+            String key = normalize(item.getTitle());
+
+            Optional<MovieEntity> exact = closestMovie(byTitle.getOrDefault(item.getTitle(), List.of()), item.getOpenDt());
+            if (exact.isPresent()) {
+                dbTitleHits.incrementAndGet();
+                result.put(item.getTitle(), exact.get().getId());
+                addCandidate(key, new Candidate(exact.get().getId(), releaseYear(exact.get().getRepRlsDate())));
+                continue;
+            }
+
+            // 제목에도 없으면 기타 제명 LIKE (기존 DB 매칭)
+            String compact = item.getTitle().replaceAll("\\s+", "");
+            Optional<MovieEntity> fallback = closestMovie(movieRepository.findByTitleEtcContaining(compact), item.getOpenDt());
+
+            if (fallback.isPresent()) {
+                dbFallbackHits.incrementAndGet();
+                result.put(item.getTitle(), fallback.get().getId());
+                addCandidate(key, new Candidate(fallback.get().getId(), releaseYear(fallback.get().getRepRlsDate()), true));
+                log.debug("DB 매칭: {}", item.getTitle());
+            } else {
+                misses.incrementAndGet();
+                log.warn("매칭 실패: {}", item.getTitle());
+            }
+        }
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        long title = titleHits.get();
+        long alias = aliasHits.get();
+        long dbTitle = dbTitleHits.get();
+        long db = dbFallbackHits.get();
+        long miss = misses.get();
+        long total = title + alias + dbTitle + db + miss;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("indexedKeys", candidatesByKey.size());
+        stats.put("titleHits", title);
+        stats.put("aliasHits", alias);
+        stats.put("dbTitleHits", dbTitle);
+        stats.put("dbFallbackHits", db);
+        stats.put("misses", miss);
+        stats.put("dbFallbackRate", total == 0 ? 0.0 : (double) (dbTitle + db + miss) / total);
+        return stats;
+    }
+
+    static String normalize(String title) {
+        if (title == null) return "";
+        return NON_WORD.matcher(title.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private void addCandidate(String key, Candidate candidate) {
+        if (key.isEmpty()) return;
+        candidatesByKey.compute(key, (k, list) -> {
+            List<Candidate> updated = list == null ? new ArrayList<>() : new ArrayList<>(list);
+            updated.removeIf(c -> c.movieId == candidate.movieId);
+            updated.add(candidate);
+            return List.copyOf(updated);
+        });
+    }
+
+    // 정규화 키 → 기타 제명 여부 (제목 키 우선)
+    private Map<String, Boolean> keys(String title, String titleEtc) {
+        Map<String, Boolean> keys = new LinkedHashMap<>();
+        String titleKey = normalize(title);
+        if (!titleKey.isEmpty()) keys.put(titleKey, false);
+
+        if (titleEtc != null) {
+            for (String alias : titleEtc.split("\\^")) {
+                String aliasKey = normalize(alias);
+                if (!aliasKey.isEmpty()) keys.putIfAbsent(aliasKey, true);
+            }
+        }
+        return keys;
+    }
+
+    // 제목 일치 우선, 그다음 개봉연도 차이가 작은 순
+    private Candidate closest(List<Candidate> candidates, LocalDate openDt) {
+        if (candidates == null || candidates.isEmpty()) return null;
+        return candidates.stream()
+                .min(Comparator.comparing((Candidate c) -> c.alias)
+                        .thenComparingInt(c -> yearDiff(c.releaseYear, openDt)))
+                .orElse(null);
+    }
+
+    private Optional<MovieEntity> closestMovie(List<MovieEntity> movies, LocalDate openDt) {
+        return movies.stream()
+                .min(Comparator.comparingInt(m -> yearDiff(releaseYear(m.getRepRlsDate()), openDt)));
+    }
+
+    private int yearDiff(int releaseYear, LocalDate openDt) {
+        if (releaseYear == 0 || openDt == null) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.abs(releaseYear - openDt.getYear());
+    }
+
+    private int releaseYear(String repRlsDate) {
+        if (repRlsDate == null || repRlsDate.length() < 4) return 0;
+        try {
+            return Integer.parseInt(repRlsDate.substring(0, 4));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class Candidate {
+        private final long movieId;
+        private final int releaseYear;
+        private final boolean alias;
+
+        Candidate(long movieId, int releaseYear) {
+            this(movieId, releaseYear, false);
+        }
+
+        Candidate(long movieId, int releaseYear, boolean alias) {
+            this.movieId = movieId;
+            this.releaseYear = releaseYear;
+            this.alias = alias;
+        }
+
+        Candidate as(boolean alias) {
+            return alias == this.alias ? this : new Candidate(movieId, releaseYear, alias);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.movierang.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동기화 1회 동안 쓰는 docId 존재 여부 필터 (Bloom filter)
+ *
+ * - 동기화 시작 시 movie 테이블의 docId 를 한 번 읽어 구성 (docId 당 약 10bit, 오탐률 1%)
+ * - "없음" 판정은 확실 → 존재 확인 조회 없이 바로 INSERT 대상
+ * - "있을 수 있음" 판정만 페이지당 IN 조회 한 번으로 확인 (오탐은 여기서 걸러짐)
+ * - 동기화 중 새로 저장한 docId 도 추가 (같은 실행의 다음 페이지에서 중복 판정)
+ */
+public final class DocIdMembership {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 10_000;
+
+    private final long[] bits;
+    private final int numBits;
+    private final int numHashes;
+    private int size;
+
+    // 판정 통계
+    private final AtomicLong definitelyNew = new AtomicLong();
+    private final AtomicLong maybeExisting = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param expected 예상 docId 수 (현재 영화 수 + 이번 동기화로 늘어날 수)
+     */
+    public DocIdMembership(long expected) {
+        long n = Math.max(expected, MIN_CAPACITY);
+        long m = (long) Math.ceil(-n * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(m, Integer.MAX_VALUE - 63);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.bits = new long[(numBits + 63) / 64];
+    }
+
+    public synchronized void add(String docId) {
+        long hash = hash64(docId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = Math.floorMod(h1 + i * h2, numBits);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+        size++;
+    }
+
+    public synchronized boolean mightContain(String docId) {
+        long hash = hash64(docId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * docId 목록을 "확실히 새 영화" / "있을 수 있음" 으로 분리
+     *
+     * @return 있을 수 있는 docId (IN 조회로 확인 필요)
+     */
+    public Set<String> maybeExisting(Collection<String> docIds) {
+        Set<String> maybe = new HashSet<>();
+        for (String docId : docIds) {
+            if (mightContain(docId)) {
+                maybe.add(docId);
+            }
+        }
+        definitelyNew.addAndGet(docIds.size() - maybe.size());
+        maybeExisting.addAndGet(maybe.size());
+        return maybe;
+    }
+
+    // IN 조회로 확인한 결과 반영 (있을 수 있음 → 실제로 없음 = 오탐)
+    public void verified(int maybeCount, int existingCount) {
+        falsePositives.addAndGet(maybeCount - existingCount);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("docIds", size);
+            stats.put("sizeKb", bits.length * 8L / 1024);
+        }
+        stats.put("definitelyNew", definitelyNew.get());
+        stats.put("maybeExisting", maybeExisting.get());
+        stats.put("falsePositives", falsePositives.get());
+        return stats;
+    }
+
+    // FNV-1a 64bit (UTF-8) + 마무리 섞기
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
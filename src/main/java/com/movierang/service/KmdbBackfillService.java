@@ -0,0 +1,330 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
+import com.movierang.exception.BadRequestException;
+import com.movierang.external.adapter.KmdbAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KMDB 여러 연도 백필 (관리자 실행)
+ *
+ * - [fromYear, toYear] 를 개봉월 단위 구간(releaseDts/releaseDte)으로 나눠 work-stealing 풀에서 동시 실행
+ * - KMDB 호출은 전체 백필 통틀어 MAX_KMDB_CONCURRENCY 개까지 (구간 수와 무관하게 API 부하 고정)
+ * - 구간마다 페이지 단위 체크포인트 → 실패한 구간은 백오프 후 빠진 페이지부터 재시도
+ * - docId 필터/인물 캐시는 전체 구간이 공유, 진행 상황은 구간/페이지/행 단위로 합산
+ * - 한 번에 하나의 백필만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmdbBackfillService {
+    public static final int DEFAULT_PARALLELISM = 8;
+    public static final int MAX_PARALLELISM = 32;
+    private static final int MAX_KMDB_CONCURRENCY = 4;
+    private static final int MAX_YEARS = 100;
+    private static final int PAGE_SIZE = 500;
+    private static final int PARTITION_MAX_ATTEMPTS = 3;
+    private static final long PARTITION_BACKOFF_MILLIS = 1000;
+    private static final int EXPECTED_MOVIES_PER_YEAR = 5_000;   // docId 필터 크기 계산용
+    private static final int MAX_FAILED_PARTITIONS = 100;
+
+    private final KmdbAdapter kmdbAdapter;
+    private final MovieSyncService movieSyncService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "kmdb-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 전체 백필 공용 KMDB 동시 호출 제한
+    private final Semaphore kmdbPermits = new Semaphore(MAX_KMDB_CONCURRENCY, true);
+
+    private final AtomicReference<Progress> current = new AtomicReference<>();
+
+    /**
+     * 백필 시작 (비동기)
+     *
+     * @throws BadRequestException 범위가 잘못되었거나 이미 실행 중인 경우
+     */
+    public Map<String, Object> start(int fromYear, int toYear, int parallelism) {
+        if (fromYear > toYear) {
+            throw new BadRequestException("시작 연도가 종료 연도보다 늦습니다: " + fromYear + " ~ " + toYear);
+        }
+        if (toYear - fromYear + 1 > MAX_YEARS) {
+            throw new BadRequestException("한 번에 " + MAX_YEARS + "년까지 백필할 수 있습니다: " + fromYear + " ~ " + toYear);
+        }
+        int limit = Math.max(1, Math.min(parallelism, MAX_PARALLELISM));
+
+        Progress progress = new Progress(fromYear, toYear, limit, partitions(fromYear, toYear));
+        Progress running = current.get();
+        if (running != null && running.isRunning()) {
+            throw new BadRequestException("이미 백필이 실행 중입니다: " + running.fromYear + " ~ " + running.toYear);
+        }
+        if (!current.compareAndSet(running, progress)) {
+            throw new BadRequestException("이미 백필이 실행 중입니다");
+        }
+
+        executor.execute(() -> run(progress));
+        return progress.toMap();
+    }
+
+    public Optional<Map<String, Object>> getProgress() {
+        return Optional.ofNullable(current.get()).map(Progress::toMap);
+    }
+
+    /**
+     * 실행 중인 백필 중단 요청 (저장 중인 페이지까지 커밋 후 멈춤, 다음 실행은 체크포인트부터)
+     */
+    public Optional<Map<String, Object>> cancel() {
+        Progress progress = current.get();
+        if (progress == null) {
+            return Optional.empty();
+        }
+        if (progress.isRunning()) {
+            progress.cancelRequested = true;
+            log.info("KMDB 백필 중단 요청 - {} ~ {}", progress.fromYear, progress.toYear);
+        }
+        return Optional.of(progress.toMap());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Progress progress = current.get();
+        if (progress != null) {
+            progress.cancelRequested = true;
+        }
+        executor.shutdownNow();
+    }
+
+    // 개봉월 단위 구간 (YYYYMM01 ~ 말일)
+    private static List<KmdbSyncRange> partitions(int fromYear, int toYear) {
+        List<KmdbSyncRange> partitions = new ArrayList<>();
+        for (YearMonth month = YearMonth.of(fromYear, 1); month.getYear() <= toYear; month = month.plusMonths(1)) {
+            partitions.add(KmdbSyncRange.released(
+                    month.atDay(1).format(DateTimeFormatter.BASIC_ISO_DATE),
+                    month.atEndOfMonth().format(DateTimeFormatter.BASIC_ISO_DATE)));
+        }
+        return partitions;
+    }
+
+    private void run(Progress progress) {
+        ForkJoinPool pool = new ForkJoinPool(progress.parallelism);
+        try {
+            int years = progress.toYear - progress.fromYear + 1;
+            progress.membership = movieSyncService.loadDocIdMembership(years * EXPECTED_MOVIES_PER_YEAR);
+            log.info("KMDB 백필 시작 - {} ~ {}, {}개 구간, 동시 구간 {}개, KMDB 동시 호출 {}개",
+                    progress.fromYear, progress.toYear, progress.partitions.size(), progress.parallelism,
+                    MAX_KMDB_CONCURRENCY);
+
+            List<ForkJoinTask<?>> tasks = progress.partitions.stream()
+                    .<ForkJoinTask<?>>map(range -> pool.submit(() -> runPartition(range, progress)))
+                    .toList();
+            tasks.forEach(ForkJoinTask::join);
+
+            progress.finish(progress.cancelRequested ? "CANCELLED" : "COMPLETED");
+            log.info("KMDB 백필 {} - {} ~ {}, 완료 {}구간, 실패 {}구간, {}페이지 {}건, {}초 ({} rows/sec)",
+                    progress.cancelRequested ? "중단" : "완료", progress.fromYear, progress.toYear,
+                    progress.completed.get(), progress.failed.get(), progress.pages.get(), progress.rows.get(),
+                    String.format("%.1f", progress.elapsedSeconds()), String.format("%.1f", progress.rowsPerSecond()));
+        } catch (Exception e) {
+            progress.finish("FAILED");
+            progress.error = e.getMessage();
+            log.error("KMDB 백필 실패 - {} ~ {}", progress.fromYear, progress.toYear, e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // 구간 하나 (실패 시 백오프 후 재시도 - 커밋된 페이지는 체크포인트로 건너뜀)
+    private void runPartition(KmdbSyncRange range, Progress progress) {
+        progress.running.incrementAndGet();
+        try {
+            long backoff = PARTITION_BACKOFF_MILLIS;
+            for (int attempt = 1; ; attempt++) {
+                if (progress.cancelRequested) {
+                    return;
+                }
+                try {
+                    if (syncPartition(range, progress)) {
+                        progress.completed.incrementAndGet();
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= PARTITION_MAX_ATTEMPTS) {
+                        progress.fail(range);
+                        log.warn("KMDB 백필 구간 실패 - {}: {}", range, e.getMessage());
+                        return;
+                    }
+                    progress.retries.incrementAndGet();
+                    log.warn("KMDB 백필 구간 재시도 - {}, {}회차, {}ms 후: {}", range, attempt, backoff, e.getMessage());
+                    Thread.sleep(backoff);
+                    backoff *= 2;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            progress.running.decrementAndGet();
+        }
+    }
+
+    // 구간을 끝까지 저장하면 true, 중단 요청으로 멈추면 false (실패 시에도 체크포인트를 끝내 재시도가 다시 시작할 수 있게)
+    private boolean syncPartition(KmdbSyncRange range, Progress progress) throws InterruptedException {
+        int startCount = movieSyncService.beginCheckpoint(range, PAGE_SIZE);
+        try {
+            Set<Integer> committed = movieSyncService.getCommittedAhead(range);
+            while (!progress.cancelRequested) {
+                if (committed.contains(startCount)) {   // 이전 실행에서 이미 커밋된 페이지
+                    startCount += PAGE_SIZE;
+                    continue;
+                }
+                List<KmdbMovieDto> movies = fetch(range, startCount);
+                if (!movies.isEmpty()) {
+                    MovieSaveResult result = movieSyncService.savePage(range, PAGE_SIZE, startCount, movies,
+                            progress.membership, progress.personCache);
+                    progress.saved(movies.size(), result);
+                }
+                // 한 달 분량은 대부분 한 페이지 → 덜 찬 페이지면 빈 페이지 조회 없이 종료
+                if (movies.size() < PAGE_SIZE) {
+                    movieSyncService.finishCheckpoint(range, "COMPLETED", null);
+                    return true;
+                }
+                startCount += PAGE_SIZE;
+            }
+        } catch (RuntimeException | InterruptedException e) {
+            movieSyncService.finishCheckpoint(range, "FAILED", e.getMessage());
+            throw e;
+        }
+        movieSyncService.finishCheckpoint(range, "CANCELLED", null);
+        return false;
+    }
+
+    private List<KmdbMovieDto> fetch(KmdbSyncRange range, int startCount) throws InterruptedException {
+        kmdbPermits.acquire();
+        try {
+            return kmdbAdapter.searchMovies(range.getReleaseDts(), range.getReleaseDte(), PAGE_SIZE, startCount);
+        } finally {
+            kmdbPermits.release();
+        }
+    }
+
+    private static final class Progress {
+        private final int fromYear;
+        private final int toYear;
+        private final int parallelism;
+        private final List<KmdbSyncRange> partitions;
+        private final long startedNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final PersonIdentityCache personCache = new PersonIdentityCache();
+        private volatile DocIdMembership membership;
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private final AtomicInteger pages = new AtomicInteger();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final List<String> failedPartitions = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile boolean cancelRequested;
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile long finishedNanos;
+        private volatile LocalDateTime finishedAt;
+
+        Progress(int fromYear, int toYear, int parallelism, List<KmdbSyncRange> partitions) {
+            this.fromYear = fromYear;
+            this.toYear = toYear;
+            this.parallelism = parallelism;
+            this.partitions = partitions;
+        }
+
+        boolean isRunning() {
+            return "RUNNING".equals(status);
+        }
+
+        void saved(int count, MovieSaveResult result) {
+            pages.incrementAndGet();
+            rows.addAndGet(count);
+            inserted.addAndGet(result.getInserted());
+            updated.addAndGet(result.getUpdated());
+            unchanged.addAndGet(result.getUnchanged());
+        }
+
+        void fail(KmdbSyncRange range) {
+            failed.incrementAndGet();
+            if (failedPartitions.size() < MAX_FAILED_PARTITIONS) {
+                failedPartitions.add(range.getReleaseDts().substring(0, 6));
+            }
+        }
+
+        void finish(String status) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        double elapsedSeconds() {
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000_000.0;
+        }
+
+        double rowsPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds > 0 ? rows.get() / seconds : 0.0;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            map.put("fromYear", fromYear);
+            map.put("toYear", toYear);
+            map.put("parallelism", parallelism);
+            map.put("kmdbConcurrency", MAX_KMDB_CONCURRENCY);
+            map.put("cancelRequested", cancelRequested);
+            map.put("totalPartitions", partitions.size());
+            map.put("completedPartitions", completed.get());
+            map.put("runningPartitions", running.get());
+            map.put("failedPartitions", failed.get());
+            synchronized (failedPartitions) {
+                map.put("failedMonths", List.copyOf(failedPartitions));
+            }
+            map.put("partitionRetries", retries.get());
+            map.put("savedPages", pages.get());
+            map.put("savedRows", rows.get());
+            map.put("insertedMovies", inserted.get());
+            map.put("updatedMovies", updated.get());
+            map.put("unchangedMovies", unchanged.get());
+            map.put("startedAt", startedAt.toString());
+            map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            map.put("elapsedSeconds", Math.round(elapsedSeconds() * 10) / 10.0);
+            map.put("rowsPerSecond", Math.round(rowsPerSecond() * 10) / 10.0);
+            if (membership != null) {
+                map.put("docIdFilter", membership.getStats());
+            }
+            map.put("personCache", personCache.getStats());
+            if (error != null) {
+                map.put("error", error);
+            }
+            return map;
+        }
+    }
+}
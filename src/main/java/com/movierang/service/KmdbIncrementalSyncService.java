@@ -0,0 +1,141 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.entity.SyncCheckpoint;
+import com.movierang.entity.SyncWatermark;
+import com.movierang.repository.SyncCheckpointRepository;
+import com.movierang.repository.SyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * KMDB 증분 동기화 (수정일 기준점)
+ *
+ * - 평소: 마지막으로 본 수정일(하루 겹침)부터 오늘까지 수정/등록된 영화만 조회 (updateDts/updateDte)
+ * - 기준점이 없거나 마지막 전체 조회 후 7일이 지나면 올해 전체 조회로 보정
+ * - 실패한 페이지가 있으면 기준점을 옮기지 않음 → 다음 실행에서 같은 구간을 다시 조회
+ * - 끝나지 않은 증분 체크포인트가 있으면 그 범위(그날의 종료일)를 그대로 이어서 실행
+ *   (종료일이 바뀐 새 범위로는 체크포인트 페이지 위치를 쓸 수 없으므로), 완료된 증분 체크포인트는 삭제됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmdbIncrementalSyncService {
+    public static final String WATERMARK = "kmdb-movie";
+    private static final Duration FULL_SCAN_INTERVAL = Duration.ofDays(7);
+    private static final int OVERLAP_DAYS = 1;
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final KmdbSyncService kmdbSyncService;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+    private final SyncCheckpointRepository syncCheckpointRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * @param forceFull true 면 기준점과 관계없이 올해 전체 조회
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public Map<String, Object> run(boolean forceFull) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("KMDB 증분 동기화가 이미 실행 중입니다");
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            SyncWatermark watermark = syncWatermarkRepository.findById(WATERMARK)
+                    .orElseGet(() -> SyncWatermark.of(WATERMARK));
+
+            boolean full = forceFull || isFullScanDue(watermark, now);
+            Optional<SyncCheckpoint> unfinished = syncCheckpointRepository
+                    .findFirstByRangeKeyStartingWithAndStatusNotOrderByUpdatedAtDesc(KmdbSyncRange.UPDATE_KEY_PREFIX, "COMPLETED");
+            KmdbSyncRange range = full
+                    ? KmdbSyncRange.released(now.getYear() + "0101", now.getYear() + "1231")
+                    : unfinished.map(checkpoint -> KmdbSyncRange.fromKey(checkpoint.getRangeKey()))
+                            .orElseGet(() -> KmdbSyncRange.updated(incrementalStart(watermark).format(YYYYMMDD),
+                                    now.toLocalDate().format(YYYYMMDD)));
+
+            log.info("KMDB {} 동기화 시작 - {}{}", full ? "전체" : "증분", range,
+                    !full && unfinished.isPresent() ? " (중단된 증분 범위 이어서)" : "");
+            KmdbSyncService.SyncReport report = kmdbSyncService.sync(range, KmdbSyncService.DEFAULT_PARALLELISM);
+
+            // 전체 조회가 끝까지 성공하면 기준점이 새로 잡히므로 중단된 증분 범위는 정리
+            if (full && !report.hasFailedPages()) {
+                unfinished.ifPresent(syncCheckpointRepository::delete);
+            }
+
+            String modDate = report.getMaxModDate().orElse(null);
+            if (report.hasFailedPages()) {
+                watermark.partial(full ? "FULL" : "INCREMENTAL", report.getRows(), report.elapsedSeconds(), now);
+            } else if (full) {
+                watermark.fullScan(modDate, report.getRows(), report.elapsedSeconds(), now);
+            } else {
+                watermark.incremental(modDate, report.getRows(), report.elapsedSeconds(), now);
+            }
+            syncWatermarkRepository.save(watermark);
+
+            log.info("KMDB {} 동기화 완료 - {}건, {}초, 기준 수정일 {}",
+                    full ? "전체" : "증분", report.getRows(), String.format("%.1f", report.elapsedSeconds()),
+                    watermark.getLastModDate());
+
+            Map<String, Object> result = status(watermark, now);
+            result.put("report", report.toMap());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 관리 화면용 기준점/마지막 실행 정보
+    public Map<String, Object> getStatus() {
+        return status(syncWatermarkRepository.findById(WATERMARK).orElseGet(() -> SyncWatermark.of(WATERMARK)),
+                LocalDateTime.now());
+    }
+
+    private Map<String, Object> status(SyncWatermark watermark, LocalDateTime now) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("running", running.get());
+        map.put("lastModDate", watermark.getLastModDate());
+        map.put("lastRunAt", watermark.getLastRunAt());
+        map.put("lastMode", watermark.getLastMode());
+        map.put("lastFetchedRows", watermark.getLastFetchedRows());
+        map.put("lastElapsedSeconds", round(watermark.getLastElapsedSeconds()));
+        map.put("lastFullScanAt", watermark.getLastFullScanAt());
+        map.put("lastFullScanRows", watermark.getLastFullScanRows());
+        map.put("lastFullScanSeconds", round(watermark.getLastFullScanSeconds()));
+        map.put("nextFullScanDue", isFullScanDue(watermark, now));
+
+        // 마지막 증분 실행이 전체 조회 대비 줄인 조회 건수/시간
+        if ("INCREMENTAL".equals(watermark.getLastMode()) && watermark.getLastFullScanAt() != null) {
+            map.put("rowsSaved", watermark.getLastFullScanRows() - watermark.getLastFetchedRows());
+            map.put("secondsSaved", round(watermark.getLastFullScanSeconds() - watermark.getLastElapsedSeconds()));
+        }
+        return map;
+    }
+
+    private static boolean isFullScanDue(SyncWatermark watermark, LocalDateTime now) {
+        return watermark.getLastFullScanAt() == null
+                || !watermark.getLastFullScanAt().plus(FULL_SCAN_INTERVAL).isAfter(now);
+    }
+
+    // 마지막 수정일(없으면 마지막 전체 조회일)에서 하루 겹쳐 시작
+    private static LocalDate incrementalStart(SyncWatermark watermark) {
+        LocalDate base = watermark.getLastModDate() != null
+                ? LocalDate.parse(watermark.getLastModDate(), YYYYMMDD)
+                : watermark.getLastFullScanAt().toLocalDate();
+        return base.minusDays(OVERLAP_DAYS);
+    }
+
+    private static double round(double seconds) {
+        return Math.round(seconds * 10) / 10.0;
+    }
+}
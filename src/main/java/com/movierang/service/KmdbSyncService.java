@@ -0,0 +1,413 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.KmdbMoviePage;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
+import com.movierang.exception.KmdbApiException;
+import com.movierang.external.adapter.KmdbAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KMDB 기간 동기화 파이프라인
+ *
+ * 조회(fetch) → [큐] → 디코딩/변환(decode) → [큐] → 저장(write)
+ *
+ * - 첫 페이지로 전체 건수(TotalCount)를 확인한 뒤 나머지 페이지를 동시 N개까지 조회 (flatMapSequential)
+ * - 단계마다 전용 스레드 + 크기 제한 큐 → 페이지 N 저장 중에 N+1 디코딩, N+2.. 다운로드
+ * - 큐가 차면 앞 단계가 멈추므로 메모리에는 최대 (동시 조회 수 + 큐 크기) 페이지만 유지
+ * - 저장은 페이지 순서대로 한 페이지씩, 페이지마다 한 트랜잭션으로 JDBC 일괄 저장 (MovieSyncService.saveMoviesBulk)
+ * - 기존 docId 는 시작 시 한 번 읽은 필터(DocIdMembership)로 판정 → 있을 수 있는 docId 만 IN 조회
+ * - 인물 ID 는 실행 단위 캐시(PersonIdentityCache)로 페이지 간 공유 → 처음 보는 인물만 조회/저장
+ * - 실패한 페이지는 재시도 후 기록만 하고 계속 진행
+ * - 페이지 저장과 같은 트랜잭션에서 체크포인트 갱신 → 중단/실패한 기간은 다음 실행 때 빠진 페이지만 다시 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmdbSyncService {
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int MAX_PARALLELISM = 8;
+    private static final int PAGE_SIZE = 500;
+    private static final int DECODE_QUEUE_SIZE = 2;
+    private static final int WRITE_QUEUE_SIZE = 2;
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final KmdbAdapter kmdbAdapter;
+    private final MovieSyncService movieSyncService;
+
+    // 실행 중인 동기화 (range.key() → 진행 상황, 같은 기간은 동시에 하나만 실행)
+    private final Map<String, SyncReport> running = new ConcurrentHashMap<>();
+
+    public SyncReport syncYear(int year, int parallelism) {
+        return sync(year + "0101", year + "1231", parallelism);
+    }
+
+    public SyncReport sync(String releaseDts, String releaseDte, int parallelism) {
+        return sync(KmdbSyncRange.released(releaseDts, releaseDte), parallelism);
+    }
+
+    /**
+     * 개봉일/수정일 기간 동기화 (호출 스레드에서 완료까지 대기)
+     *
+     * @throws KmdbApiException 첫 페이지(전체 건수) 조회 실패 시
+     */
+    public SyncReport sync(KmdbSyncRange range, int parallelism) {
+        return execute(prepare(range, parallelism));
+    }
+
+    // 실행 전 진행 상황 객체 생성 (비동기 작업이 실행 전에 취소/조회할 수 있도록 분리)
+    public SyncReport prepare(KmdbSyncRange range, int parallelism) {
+        return new SyncReport(range, Math.max(1, Math.min(parallelism, MAX_PARALLELISM)));
+    }
+
+    /**
+     * prepare 로 만든 동기화 실행 (호출 스레드에서 완료까지 대기)
+     *
+     * - cancel() 요청 시 남은 페이지 조회를 취소하고 저장 중인 페이지까지만 커밋 후 CANCELLED 로 종료
+     *
+     * @throws com.movierang.exception.BadRequestException 같은 기간의 동기화가 이미 실행 중인 경우
+     */
+    public SyncReport execute(SyncReport report) {
+        KmdbSyncRange range = report.range;
+        int limit = report.parallelism;
+
+        // 1) 이어서 조회할 위치 (체크포인트가 없으면 0) - 같은 기간이 실행 중이면 여기서 거절
+        int resumeFrom = movieSyncService.beginCheckpoint(range, PAGE_SIZE);
+        report.resumedFrom = resumeFrom;
+        report.startedNanos = System.nanoTime();    // 대기 시간은 처리량 계산에서 제외
+        running.put(range.key(), report);
+
+        Scheduler decodeThread = Schedulers.newSingle("kmdb-decode", true);
+        Scheduler writeThread = Schedulers.newSingle("kmdb-write", true);
+        try {
+            Set<Integer> committed = movieSyncService.getCommittedAhead(range);
+            report.skippedPages = committed.size();
+
+            // 첫 페이지로 전체 건수 확인
+            RawPage firstRaw = fetch(range, resumeFrom, report).block();
+            if (firstRaw == null) {
+                throw new KmdbApiException("KMDB 조회 결과가 없습니다: " + range);
+            }
+            report.decode.enqueue();
+            KmdbMoviePage first = decode(firstRaw, report);
+            report.totalCount = first.getTotalCount();
+            report.totalPages = Math.max(1, (first.getTotalCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+            int firstPage = resumeFrom / PAGE_SIZE;
+            log.info("KMDB 동기화 시작 - {}, 전체 {}건 ({}페이지, {}페이지부터), 동시 {}개",
+                    range, report.totalCount, report.totalPages, firstPage, limit);
+
+            // 기존 docId 는 실행마다 한 번만 읽어 필터로 사용 (행마다 존재 확인 조회 제거)
+            report.membership = movieSyncService.loadDocIdMembership(report.totalCount);
+
+            // 2) 나머지 페이지 (이전 실행에서 커밋된 페이지 제외): 조회(동시 N개, 순서 유지) → 디코딩 스레드
+            Flux<KmdbMoviePage> rest = Flux.range(firstPage + 1, Math.max(0, report.totalPages - firstPage - 1))
+                    .filter(page -> !committed.contains(page * PAGE_SIZE))
+                    .flatMapSequential(page -> fetch(range, page * PAGE_SIZE, report)
+                            .onErrorResume(e -> {
+                                report.fail(page * PAGE_SIZE);
+                                log.warn("KMDB 페이지 조회 실패 - startCount={}: {}", page * PAGE_SIZE, e.getMessage());
+                                return Mono.empty();
+                            }), limit, 1)
+                    .doOnNext(raw -> report.decode.enqueue())
+                    .publishOn(decodeThread, DECODE_QUEUE_SIZE)
+                    .handle((raw, sink) -> {
+                        try {
+                            sink.next(decode(raw, report));
+                        } catch (Exception e) {
+                            report.fail(raw.startCount);
+                            log.warn("KMDB 페이지 디코딩 실패 - startCount={}: {}", raw.startCount, e.getMessage());
+                        }
+                    });
+
+            // 3) 저장 스레드에서 페이지 순서대로 저장 (취소 시 조회 중단, 큐에 남은 페이지는 버림)
+            Flux.concat(Mono.just(first), rest)
+                    .takeUntilOther(report.cancelSignal.asMono())
+                    .doOnNext(page -> report.write.enqueue())
+                    .publishOn(writeThread, WRITE_QUEUE_SIZE)
+                    .filter(page -> !report.isCancelRequested())
+                    .doOnNext(page -> write(page, report))
+                    .blockLast();
+
+            report.finish(report.isCancelRequested() ? "CANCELLED" : "COMPLETED");
+            movieSyncService.finishCheckpoint(range, report.isCancelRequested() ? "CANCELLED"
+                    : report.hasFailedPages() ? "FAILED" : "COMPLETED", null);
+            log.info("KMDB 동기화 {} - {}, {}페이지 {}건, 실패 {}페이지, {}초 ({} pages/sec, {} rows/sec)",
+                    report.isCancelRequested() ? "취소" : "완료", range, report.write.pages.get(), report.write.rows.get(),
+                    report.failedPages.size(), String.format("%.1f", report.elapsedSeconds()),
+                    String.format("%.2f", report.pagesPerSecond()), String.format("%.1f", report.rowsPerSecond()));
+            return report;
+        } catch (RuntimeException e) {
+            report.finish("FAILED");
+            movieSyncService.finishCheckpoint(range, "FAILED", e.getMessage());
+            throw e;
+        } finally {
+            running.remove(range.key(), report);
+            decodeThread.dispose();
+            writeThread.dispose();
+        }
+    }
+
+    // 실행 중인 동기화별 파이프라인 단계 큐 길이/처리량 (끝난 동기화는 작업 조회 API 사용)
+    public List<Map<String, Object>> getRunning() {
+        return running.values().stream().map(SyncReport::toMap).toList();
+    }
+
+    private Mono<RawPage> fetch(KmdbSyncRange range, int startCount, SyncReport report) {
+        return Mono.defer(() -> {
+                    report.fetch.begin();
+                    long start = System.nanoTime();
+                    return kmdbAdapter.searchMoviesRawAsync(range, PAGE_SIZE, startCount)
+                            .timeout(REQUEST_TIMEOUT)
+                            .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                            .map(body -> new RawPage(startCount, body))
+                            .doOnTerminate(() -> report.fetch.end(0, System.nanoTime() - start))
+                            .doOnCancel(() -> report.fetch.end(0, System.nanoTime() - start));
+                });
+    }
+
+    private KmdbMoviePage decode(RawPage raw, SyncReport report) {
+        report.decode.begin();
+        long start = System.nanoTime();
+        KmdbMoviePage page = null;
+        try {
+            page = kmdbAdapter.decodePage(raw.body, raw.startCount);
+            return page;
+        } finally {
+            report.decode.end(page != null ? page.getMovies().size() : 0, System.nanoTime() - start);
+        }
+    }
+
+    private void write(KmdbMoviePage page, SyncReport report) {
+        report.write.begin();
+        long start = System.nanoTime();
+        try {
+            // 빈 페이지도 체크포인트는 갱신
+            MovieSaveResult result = movieSyncService.savePage(report.range, PAGE_SIZE, page.getStartCount(),
+                    page.getMovies(), report.membership, report.personCache);
+            report.inserted.addAndGet(result.getInserted());
+            report.updated.addAndGet(result.getUpdated());
+            report.unchanged.addAndGet(result.getUnchanged());
+            report.observeModDates(page.getMovies());
+        } finally {
+            report.write.end(page.getMovies().size(), System.nanoTime() - start);
+        }
+        log.debug("KMDB 페이지 저장 - startCount={}, {}건 (누적 {}건)",
+                page.getStartCount(), page.getMovies().size(), report.write.rows.get());
+    }
+
+    private static final class RawPage {
+        private final int startCount;
+        private final byte[] body;     // UTF-8 원문 그대로 (String 변환/복사 없이 디코딩 단계에서 스트리밍 파싱)
+
+        RawPage(int startCount, byte[] body) {
+            this.startCount = startCount;
+            this.body = body;
+        }
+    }
+
+    /**
+     * 파이프라인 한 단계의 통계
+     *
+     * - queued: 앞 단계가 넘겼지만 아직 시작하지 않은 페이지 수 (조회 단계는 요청 중인 페이지 수)
+     * - busySeconds: 처리에 쓴 시간 합계 (조회 단계는 동시 요청 시간이 겹쳐서 합산됨)
+     */
+    private static final class Stage {
+        private final AtomicInteger enqueued = new AtomicInteger();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger pages = new AtomicInteger();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+
+        void enqueue() {
+            enqueued.incrementAndGet();
+        }
+
+        void begin() {
+            started.incrementAndGet();
+        }
+
+        void end(int rowCount, long nanos) {
+            pages.incrementAndGet();
+            rows.addAndGet(rowCount);
+            busyNanos.addAndGet(nanos);
+        }
+
+        Map<String, Object> toMap(double elapsedSeconds, boolean inFlight) {
+            double busySeconds = busyNanos.get() / 1_000_000_000.0;
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put(inFlight ? "inFlight" : "queued", inFlight
+                    ? started.get() - pages.get()
+                    : enqueued.get() - started.get());
+            map.put("pages", pages.get());
+            map.put("rows", rows.get());
+            map.put("busySeconds", Math.round(busySeconds * 10) / 10.0);
+            map.put("pagesPerSecond", elapsedSeconds > 0 ? Math.round(pages.get() / elapsedSeconds * 100) / 100.0 : 0.0);
+            return map;
+        }
+    }
+
+    public static final class SyncReport {
+        private final KmdbSyncRange range;
+        private final int parallelism;
+        private volatile long startedNanos = System.nanoTime();
+
+        private volatile String status = "RUNNING";
+        private volatile int totalCount;
+        private volatile int totalPages;
+        private volatile int resumedFrom;
+        private volatile int skippedPages;
+        private final Stage fetch = new Stage();
+        private final Stage decode = new Stage();
+        private final Stage write = new Stage();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicReference<String> maxModDate = new AtomicReference<>();
+        private final Sinks.One<Boolean> cancelSignal = Sinks.one();
+        private volatile boolean cancelRequested;
+        private volatile DocIdMembership membership;
+        private final PersonIdentityCache personCache = new PersonIdentityCache();
+        private final List<Integer> failedPages = Collections.synchronizedList(new ArrayList<>());
+        private volatile long finishedNanos;
+
+        SyncReport(KmdbSyncRange range, int parallelism) {
+            this.range = range;
+            this.parallelism = parallelism;
+        }
+
+        // 저장한 영화의 최신 수정일 (YYYYMMDD, 증분 동기화 기준점)
+        void observeModDates(List<KmdbMovieDto> movies) {
+            for (KmdbMovieDto movie : movies) {
+                String modDate = modDay(movie.getModDate());
+                if (modDate != null) {
+                    maxModDate.accumulateAndGet(modDate, (a, b) -> a == null || b.compareTo(a) > 0 ? b : a);
+                }
+            }
+        }
+
+        private static String modDay(String modDate) {
+            if (modDate == null) return null;
+            String digits = modDate.replaceAll("[^0-9]", "");
+            return digits.length() >= 8 ? digits.substring(0, 8) : null;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public KmdbSyncRange getRange() {
+            return range;
+        }
+
+        // 취소 요청 (실행 스레드가 남은 페이지 조회를 멈추고 종료)
+        public void cancel() {
+            cancelRequested = true;
+            cancelSignal.tryEmitValue(Boolean.TRUE);
+        }
+
+        public boolean isCancelRequested() {
+            return cancelRequested;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public boolean hasFailedPages() {
+            return !failedPages.isEmpty();
+        }
+
+        public Optional<String> getMaxModDate() {
+            return Optional.ofNullable(maxModDate.get());
+        }
+
+        void fail(int startCount) {
+            failedPages.add(startCount);
+        }
+
+        void finish(String status) {
+            this.finishedNanos = System.nanoTime();
+            this.status = status;
+        }
+
+        public long getRows() {
+            return write.rows.get();
+        }
+
+        public double elapsedSeconds() {
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000_000.0;
+        }
+
+        // 저장 완료 기준 처리량
+        public double pagesPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds > 0 ? write.pages.get() / seconds : 0.0;
+        }
+
+        public double rowsPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds > 0 ? write.rows.get() / seconds : 0.0;
+        }
+
+        public Map<String, Object> toMap() {
+            double elapsed = elapsedSeconds();
+            Map<String, Object> stages = new LinkedHashMap<>();
+            stages.put("fetch", fetch.toMap(elapsed, true));
+            stages.put("decode", decode.toMap(elapsed, false));
+            stages.put("write", write.toMap(elapsed, false));
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            if (range.isIncremental()) {
+                map.put("updateDts", range.getUpdateDts());
+                map.put("updateDte", range.getUpdateDte());
+            } else {
+                map.put("releaseDts", range.getReleaseDts());
+                map.put("releaseDte", range.getReleaseDte());
+            }
+            map.put("parallelism", parallelism);
+            map.put("totalCount", totalCount);
+            map.put("totalPages", totalPages);
+            map.put("resumedFromStartCount", resumedFrom);
+            map.put("skippedCommittedPages", skippedPages);
+            map.put("savedPages", write.pages.get());
+            map.put("savedRows", write.rows.get());
+            map.put("insertedMovies", inserted.get());
+            map.put("updatedMovies", updated.get());
+            map.put("unchangedMovies", unchanged.get());
+            synchronized (failedPages) {
+                map.put("failedPages", failedPages.size());
+                map.put("failedStartCounts", failedPages.stream().sorted().toList());
+            }
+            map.put("elapsedSeconds", Math.round(elapsed * 10) / 10.0);
+            map.put("pagesPerSecond", Math.round(pagesPerSecond() * 100) / 100.0);
+            map.put("rowsPerSecond", Math.round(rowsPerSecond() * 10) / 10.0);
+            map.put("stages", stages);
+            if (membership != null) {
+                map.put("docIdFilter", membership.getStats());
+            }
+            map.put("personCache", personCache.getStats());
+            return map;
+        }
+    }
+}
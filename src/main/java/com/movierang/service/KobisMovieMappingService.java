@@ -0,0 +1,100 @@
+package com.movierang.service;
+
+import com.movierang.config.CacheConfig;
+import com.movierang.entity.KobisMovieMapping;
+import com.movierang.entity.MovieEntity;
+import com.movierang.exception.MovieNotFoundException;
+import com.movierang.repository.KobisMovieMappingRepository;
+import com.movierang.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * KOBIS movieCd → 영화 매핑 관리
+ *
+ * - 박스오피스 조회 시 저장된 매핑을 먼저 사용하고, 처음 보는 movieCd 만 제목 매칭
+ * - 관리자가 잘못된 매핑을 수정/삭제할 수 있음 (삭제 시 다음 조회에서 다시 제목 매칭)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KobisMovieMappingService {
+    private final KobisMovieMappingRepository kobisMovieMappingRepository;
+    private final MovieRepository movieRepository;
+
+    // movieCd → 영화 (매핑이 없거나 영화가 삭제된 movieCd 는 제외)
+    public Map<String, MovieEntity> findMappedMovies(Collection<String> movieCds) {
+        if (movieCds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, MovieEntity> result = new HashMap<>();
+        for (Object[] row : kobisMovieMappingRepository.findMappedMovies(movieCds)) {
+            result.put((String) row[0], (MovieEntity) row[1]);
+        }
+        return result;
+    }
+
+    /**
+     * 제목 매칭 결과 저장
+     *
+     * 박스오피스 조회(읽기 전용 트랜잭션)와 분리된 트랜잭션에서 저장한다.
+     * 관리자가 수정한 매핑은 덮어쓰지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveMatches(Map<String, Long> movieIdByMovieCd) {
+        if (movieIdByMovieCd.isEmpty()) {
+            return;
+        }
+        Map<String, KobisMovieMapping> existing = kobisMovieMappingRepository.findAllById(movieIdByMovieCd.keySet())
+                .stream()
+                .collect(Collectors.toMap(KobisMovieMapping::getMovieCd, Function.identity()));
+
+        List<KobisMovieMapping> created = new ArrayList<>();
+        movieIdByMovieCd.forEach((movieCd, movieId) -> {
+            KobisMovieMapping mapping = existing.get(movieCd);
+            if (mapping == null) {
+                created.add(KobisMovieMapping.matched(movieCd, movieId));
+            } else if (!mapping.isManual()) {
+                mapping.rematch(movieId);  // 매핑된 영화가 삭제된 경우
+            }
+        });
+        kobisMovieMappingRepository.saveAll(created);
+        log.debug("KOBIS 매핑 저장: {}건", created.size());
+    }
+
+    // 관리자 매핑 수정 (캐시된 박스오피스 응답도 삭제)
+    @Transactional
+    @CacheEvict(value = CacheConfig.DAILY_BOX_OFFICE_RESPONSE, allEntries = true)
+    public KobisMovieMapping fix(String movieCd, Long movieId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new MovieNotFoundException(movieId);
+        }
+        KobisMovieMapping mapping = kobisMovieMappingRepository.findById(movieCd)
+                .orElseGet(() -> KobisMovieMapping.matched(movieCd, movieId));
+        mapping.remap(movieId);
+
+        log.info("KOBIS 매핑 수정: {} → {}", movieCd, movieId);
+        return kobisMovieMappingRepository.save(mapping);
+    }
+
+    // 매핑 삭제 (다음 조회 시 제목으로 다시 매칭)
+    @Transactional
+    @CacheEvict(value = CacheConfig.DAILY_BOX_OFFICE_RESPONSE, allEntries = true)
+    public boolean delete(String movieCd) {
+        if (!kobisMovieMappingRepository.existsById(movieCd)) {
+            return false;
+        }
+        kobisMovieMappingRepository.deleteById(movieCd);
+        log.info("KOBIS 매핑 삭제: {}", movieCd);
+        return true;
+    }
+}
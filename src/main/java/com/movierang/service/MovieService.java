@@ -1,32 +1,41 @@
 package com.movierang.service;
 
+import com.movierang.config.CacheConfig;
 import com.movierang.dto.movie.DailyBoxOfficeResponse;
+import com.movierang.dto.movie.MovieAutocompleteDto;
+import com.movierang.dto.movie.MovieCursor;
+import com.movierang.dto.movie.MovieCursorResponse;
 import com.movierang.dto.movie.MovieResponseDto;
 import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
 import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
 import com.movierang.entity.MovieEntity;
-import com.movierang.entity.MovieStats;
 
+import com.movierang.exception.BadRequestException;
 import com.movierang.exception.MovieNotFoundException;
 import com.movierang.repository.MovieRepository;
-import com.movierang.repository.MovieStatsRepository;
+import com.movierang.repository.projection.MovieCursorRow;
+import com.movierang.repository.projection.MovieSummaryRow;
+import com.movierang.util.ReleaseDateUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,8 +44,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MovieService {
     private final MovieRepository movieRepository;
-    private final MovieStatsRepository movieStatsRepository;
+    private final ViewCountBuffer viewCountBuffer;
     private final BoxOfficeService boxOfficeService;
+    private final MovieTitleIndex movieTitleIndex;
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+    private final BoxOfficeTitleMatcher boxOfficeTitleMatcher;
+    private final KobisMovieMappingService kobisMovieMappingService;
+    private final CacheManager cacheManager;
 
     public MovieEntity findById(Long id) {
         return movieRepository.findById(id)
@@ -48,159 +62,201 @@ public class MovieService {
                 .orElseThrow(() -> new MovieNotFoundException(id));
     }
 
-    @Transactional
-    @Retryable(
-        value = OptimisticLockingFailureException.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 50)
-    )
     public MovieResponseDto getMovieDetail(Long id) {
         // 1. 영화 정보 조회
         MovieEntity entity = findByIdWithPeople(id);
 
-        // 2. 조회수 증가 (동시성 제어)
-        incrementViewCount(id);
+        // 2. 조회수 증가 (메모리 버퍼, DB 반영은 ViewCountBuffer 가 주기적으로 일괄 처리)
+        viewCountBuffer.increment(id);
 
         return MovieResponseDto.from(entity);
     }
 
-    private void incrementViewCount(Long movieId) {
-        MovieStats stats = movieStatsRepository.findById(movieId)
-                .orElseGet(() -> MovieStats.createDefault(movieId));
-
-        stats.incrementView();
-        movieStatsRepository.save(stats);
-
-        log.debug("영화 조회수 증가 - movieId: {}, viewCount: {}", movieId, stats.getViewCount());
-    }
-
     public List<MovieResponseDto> findMoviesByTitle(String title) {
-        log.debug("DB 영화 검색 - title: {}", title);
-        List<MovieEntity> movies = movieRepository.findAllByTitleContainingIgnoreCase(title);
-        log.debug("DB 영화 검색 결과 - {}건", movies.size());
+        log.debug("영화 검색 - title: {}", title);
+        List<MovieSummaryRow> movies = movieTitleIndex.search(title, 0, Integer.MAX_VALUE)
+                .map(result -> findSummariesInOrder(result.getIds()))
+                .orElseGet(() -> movieRepository.findAllByTitleContainingIgnoreCase(title));
+        log.debug("영화 검색 결과 - {}건", movies.size());
 
         return movies.stream()
-                .map(MovieResponseDto::from)
+                .map(MovieResponseDto::summary)
                 .toList();
     }
 
-    // DB 영화 검색 (페이징)
+    // 제목 자동완성 (초성/자모 접두어, 조회수 순)
+    public List<MovieAutocompleteDto> autocomplete(String query, int size) {
+        return titleAutocompleteIndex.suggest(query, size);
+    }
+
+    // 영화 검색 (페이징) - 제목 색인에서 ID 페이지를 구한 뒤 해당 ID만 조회
     public Page<MovieResponseDto> searchMovies(String keyword, int page, int size) {
         log.debug("영화 검색 - keyword: {}, page: {}, size: {}", keyword, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
 
-        return movieRepository.searchByKeyword(keyword, pageable)
-                .map(MovieResponseDto::summary);
+        Page<MovieSummaryRow> movies = movieTitleIndex.search(keyword, (int) pageable.getOffset(), size)
+                .<Page<MovieSummaryRow>>map(result ->
+                        new PageImpl<>(findSummariesInOrder(result.getIds()), pageable, result.getTotal()))
+                .orElseGet(() -> movieRepository.searchByKeyword(keyword, pageable));
+
+        return movies.map(MovieResponseDto::summary);
+    }
+
+    // ID 순서를 유지한 목록용 일괄 조회
+    private List<MovieSummaryRow> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MovieSummaryRow> movieMap = movieRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(MovieSummaryRow::getId, Function.identity()));
+
+        return ids.stream()
+                .map(movieMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public Page<MovieResponseDto> getNowPlaying(int page, int size) {
-        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        LocalDate today = LocalDate.now();
         log.debug("현재 상영작 조회 - page: {}, size: {}, date: {}", page, size, today);
 
         Pageable pageable = PageRequest.of(page, size);
 
-        return movieRepository.findNowPlayingMovies(today, pageable)
+        return movieRepository.findNowPlayingMovies(
+                        ReleaseDateUtils.toSortKey(today), ReleaseDateUtils.undatedMonthKey(today), pageable)
                 .map(MovieResponseDto::summary);
     }
 
     public Page<MovieResponseDto> getUpcoming(int page, int size) {
-        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        LocalDate today = LocalDate.now();
         log.debug("개봉 예정작 조회 - page: {}, size: {}, date: {}", page, size, today);
 
         Pageable pageable = PageRequest.of(page, size);
 
-        return movieRepository.findUpcomingMovies(today, pageable)
+        return movieRepository.findUpcomingMovies(
+                        ReleaseDateUtils.toSortKey(today), ReleaseDateUtils.undatedMonthKey(today), pageable)
                 .map(MovieResponseDto::summary);
     }
 
-    public DailyBoxOfficeResponse getDailyBoxOfficeWithMovieInfo() {
-        log.info("박스오피스 영화 정보 조회 시작");
+    // 현재 상영작 (키셋 페이징 - COUNT 쿼리 없음)
+    public MovieCursorResponse getNowPlayingByCursor(String cursor, int size) {
+        LocalDate today = LocalDate.now();
+        MovieCursor from = cursor == null || cursor.isBlank() ? MovieCursor.latest() : MovieCursor.decode(cursor);
+        log.debug("현재 상영작 커서 조회 - cursor: {}, size: {}, date: {}", cursor, size, today);
+
+        List<MovieCursorRow> rows = movieRepository.findNowPlayingAfter(
+                ReleaseDateUtils.toSortKey(today), ReleaseDateUtils.undatedMonthKey(today),
+                from.getReleaseSortKey(), from.getId(), size + 1);
+        return MovieCursorResponse.of(rows, size);
+    }
 
+    // 개봉 예정작 (키셋 페이징 - COUNT 쿼리 없음)
+    public MovieCursorResponse getUpcomingByCursor(String cursor, int size) {
+        LocalDate today = LocalDate.now();
+        MovieCursor from = cursor == null || cursor.isBlank() ? MovieCursor.earliest() : MovieCursor.decode(cursor);
+        log.debug("개봉 예정작 커서 조회 - cursor: {}, size: {}, date: {}", cursor, size, today);
+
+        List<MovieCursorRow> rows = movieRepository.findUpcomingAfter(
+                ReleaseDateUtils.toSortKey(today), ReleaseDateUtils.undatedMonthKey(today),
+                from.getReleaseSortKey(), from.getId(), size + 1);
+        return MovieCursorResponse.of(rows, size);
+    }
+
+    // 박스오피스 대상 날짜별 최종 응답 캐시 - 히트 시 영화 매칭(DB) 없음
+    // 박스오피스 결과는 호출마다 한 번만 가져와 그 날짜(showRange)를 키로 사용 (만료된 경우 백그라운드 갱신이 시작됨)
+    public DailyBoxOfficeResponse getDailyBoxOfficeWithMovieInfo() {
         // 1. 박스오피스 정보 (캐시)
         DailyBoxOfficeResultDto boxOffice = boxOfficeService.getDailyBoxOffice();
 
-        // 2. 영화 정보 매칭 (제목 리스트 추출 부분 삭제)
+        Cache cache = cacheManager.getCache(CacheConfig.DAILY_BOX_OFFICE_RESPONSE);
+        if (cache == null) {
+            return toDailyBoxOfficeResponse(boxOffice);
+        }
+        return cache.get(boxOffice.getShowRange(), () -> {
+            log.info("박스오피스 영화 정보 조회 시작 - {}", boxOffice.getShowRange());
+            return toDailyBoxOfficeResponse(boxOffice);
+        });
+    }
+
+    /**
+     * 지정 날짜 박스오피스 (box_office_daily 저장분 우선)
+     *
+     * KOBIS 장애로 다른 날짜의 저장분이 반환된 경우에는 캐시하지 않는다.
+     */
+    @Cacheable(value = CacheConfig.DAILY_BOX_OFFICE_RESPONSE, key = "#date.toString()",
+            unless = "!#result.showRange.equals(#date.toString())")
+    public DailyBoxOfficeResponse getDailyBoxOfficeWithMovieInfo(LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            throw new BadRequestException("박스오피스는 어제 날짜까지만 조회할 수 있습니다: " + date);
+        }
+        log.info("박스오피스 영화 정보 조회 시작 - date: {}", date);
+
+        DailyBoxOfficeResultDto boxOffice = boxOfficeService.getDailyBoxOffice(date);
+        return toDailyBoxOfficeResponse(boxOffice);
+    }
+
+    private DailyBoxOfficeResponse toDailyBoxOfficeResponse(DailyBoxOfficeResultDto boxOffice) {
+        // 2. 영화 정보 매칭
         Map<String, MovieEntity> movieMap = matchMovies(boxOffice.getDailyBoxOfficeList());
 
         // 3. 응답 생성
         DailyBoxOfficeResponse response = DailyBoxOfficeResponse.from(boxOffice, movieMap);
-        log.info("박스오피스 영화 정보 조회 완료 - {}건", response.getMovies().size());
+        log.info("박스오피스 영화 정보 조회 완료 - {} ({}건)", response.getShowRange(), response.getMovies().size());
 
         return response;
     }
 
     private Map<String, MovieEntity> matchMovies(List<BoxOfficeItemDto> boxOfficeItems) {
-        List<String> titles = boxOfficeItems.stream()
-                .map(BoxOfficeItemDto::getTitle)
-                .toList();
-
-        Map<String, LocalDate> titleToOpenDt = boxOfficeItems.stream()  // String -> LocalDate
-                .collect(Collectors.toMap(
-                        BoxOfficeItemDto::getTitle,
-                        BoxOfficeItemDto::getOpenDt,
-                        (v1, v2) -> v1
-                ));
-
-        log.debug("박스오피스 제공 제목들: {}", titles);
-
-        // 1차: 정확 매칭
-        List<MovieEntity> exactMatches = movieRepository.findByTitleIn(titles);
-
-        Map<String, MovieEntity> movieMap = exactMatches.stream()
-                .collect(Collectors.toMap(
-                        MovieEntity::getTitle,
-                        m -> m,
-                        (m1, m2) -> selectClosestByYear(m1, m2, titleToOpenDt.get(m1.getTitle()))
-                ));
+        Map<String, MovieEntity> movieMap = new HashMap<>();
 
-        log.debug("정확 매칭: {}건 / {}건", movieMap.size(), titles.size());
+        // 1. 저장된 movieCd 매핑 (PK 조회)
+        List<String> movieCds = boxOfficeItems.stream()
+                .map(BoxOfficeItemDto::getMovieCd)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, MovieEntity> mapped = kobisMovieMappingService.findMappedMovies(movieCds);
 
-        // 2차: LIKE 검색
+        List<BoxOfficeItemDto> unmapped = new ArrayList<>();
         for (BoxOfficeItemDto item : boxOfficeItems) {
-            if (movieMap.containsKey(item.getTitle())) continue;
-
-            //코비스데이터와 kmdb 매칭 주의
-            String normalized = item.getTitle().replaceAll("\\s+", "");
-            //List<MovieEntity> found = movieRepository.findByTitleContains(normalized);
-            //movieEtc에서 포함
-            List<MovieEntity> found = movieRepository.findByTitleEtcContaining(normalized);
-
-            if (!found.isEmpty()) {
-                MovieEntity best = found.stream()
-                        .min(Comparator.comparingInt(m ->
-                                yearDiff(m.getRepRlsDate(), item.getOpenDt())))
-                        .orElseThrow(() -> new MovieNotFoundException(item.getTitle()));
-                movieMap.put(item.getTitle(), best);
-                log.debug("LIKE 매칭: {}", item.getTitle());
+            MovieEntity movie = item.getMovieCd() != null ? mapped.get(item.getMovieCd()) : null;
+            if (movie != null) {
+                movieMap.put(item.getTitle(), movie);
             } else {
-                log.warn("매칭 실패: {}", item.getTitle());
+                unmapped.add(item);
             }
         }
+        log.debug("movieCd 매핑: {}건 / {}건", movieMap.size(), boxOfficeItems.size());
 
-        log.debug("최종 매칭: {}건 / {}건", movieMap.size(), titles.size());
-        return movieMap;
-    }
+        if (unmapped.isEmpty()) {
+            return movieMap;
+        }
 
-    private MovieEntity selectClosestByYear(MovieEntity m1, MovieEntity m2, LocalDate openDt) {
-        int diff1 = yearDiff(m1.getRepRlsDate(), openDt);
-        int diff2 = yearDiff(m2.getRepRlsDate(), openDt);
-        log.debug("중복: {} | KOBIS: {} | DB1: {} | DB2: {}",
-                m1.getTitle(), openDt, m1.getRepRlsDate(), m2.getRepRlsDate());
-        return diff1 <= diff2 ? m1 : m2;
-    }
+        // 2. 처음 보는 movieCd → 제목 매칭 (메모리, 미스만 DB 조회)
+        Map<String, Long> idByTitle = boxOfficeTitleMatcher.match(unmapped);
+        Map<Long, MovieEntity> moviesById = movieRepository.findAllById(idByTitle.values()).stream()
+                .collect(Collectors.toMap(MovieEntity::getId, Function.identity()));
 
-    private int yearDiff(String repRlsDate, LocalDate kobisOpenDt) {
-        if (repRlsDate == null || repRlsDate.length() < 4) {
-            return Integer.MAX_VALUE;
+        Map<String, Long> newMappings = new HashMap<>();
+        for (BoxOfficeItemDto item : unmapped) {
+            MovieEntity movie = moviesById.get(idByTitle.get(item.getTitle()));
+            if (movie == null) continue;
+
+            movieMap.put(item.getTitle(), movie);
+            if (item.getMovieCd() != null) {
+                newMappings.put(item.getMovieCd(), movie.getId());
+            }
         }
+
+        // 3. 매칭 결과 저장 (실패해도 응답에는 영향 없음)
         try {
-            int year1 = Integer.parseInt(repRlsDate.substring(0, 4));
-            int year2 = kobisOpenDt.getYear();
-            return Math.abs(year1 - year2);
-        } catch (NumberFormatException e) {
-            return Integer.MAX_VALUE;
+            kobisMovieMappingService.saveMatches(newMappings);
+        } catch (Exception e) {
+            log.warn("KOBIS 매핑 저장 실패: {}", e.getMessage());
         }
+
+        log.debug("최종 매칭: {}건 / {}건", movieMap.size(), boxOfficeItems.size());
+        return movieMap;
     }
 
 }
\ No newline at end of file
@@ -2,37 +2,62 @@ package com.movierang.service;
 
 import com.movierang.dto.movie.kmdb.KmdbMovieDto;
 import com.movierang.dto.movie.kmdb.KmdbPersonDto;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
 import com.movierang.entity.MovieEntity;
 import com.movierang.entity.MoviePersonEntity;
-import com.movierang.entity.PersonEntity;
+import com.movierang.entity.SyncCheckpoint;
+import com.movierang.event.MovieSavedEvent;
+import com.movierang.exception.BadRequestException;
+import com.movierang.exception.KmdbApiException;
 import com.movierang.external.adapter.KmdbAdapter;
+import com.movierang.repository.MovieBulkRepository;
 import com.movierang.repository.MoviePersonRepository;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.PersonRepository;
+import com.movierang.repository.SyncCheckpointRepository;
+import com.movierang.util.MovieContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MovieSyncService {
+    private static final int SYNC_PAGE_SIZE = 500;
+    private static final int FETCH_MAX_RETRIES = 3;
+    private static final long FETCH_BACKOFF_MILLIS = 1000;
+
     private final MovieRepository movieRepository;
     private final PersonRepository personRepository;
     private final MoviePersonRepository moviePersonRepository;
+    private final MovieBulkRepository movieBulkRepository;
     private final KmdbAdapter kmdbAdapter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncCheckpointRepository syncCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 실행 중인 동기화 기간 (range.key() → 범위, 겹치는 기간을 두 실행이 함께 저장하지 않도록, runningRanges 로 동기화)
+    private final Map<String, KmdbSyncRange> runningRanges = new HashMap<>();
 
     public void saveMovies(List<KmdbMovieDto> dtos) {
         log.info("Starting to save movies. count={}", dtos.size());
         int success = 0, fail = 0;
+        PersonIdentityCache personCache = new PersonIdentityCache();
 
         for (KmdbMovieDto dto : dtos) {
             try {
-                saveSingleMovie(dto);
+                saveSingleMovie(dto, personCache);
                 success++;
             } catch (Exception e) {
                 fail++;
@@ -40,10 +65,14 @@ public class MovieSyncService {
             }
         }
 
-        log.info("Movie save completed. success={}, failed={}", success, fail);
+        log.info("Movie save completed. success={}, failed={}, personCache={}", success, fail, personCache.getStats());
     }
 
     public void saveSingleMovie(KmdbMovieDto dto) {
+        saveSingleMovie(dto, new PersonIdentityCache());
+    }
+
+    private void saveSingleMovie(KmdbMovieDto dto, PersonIdentityCache personCache) {
         if (movieRepository.existsByDocId(dto.getDocId())) {
             if (dto.getPoster() != null && !dto.getPoster().isBlank()) {
                 movieRepository.updatePosterByDocId(dto.getDocId(), dto.getPoster());
@@ -54,32 +83,238 @@ public class MovieSyncService {
 
         MovieEntity movie = MovieEntity.from(dto);
         movieRepository.save(movie);
+        eventPublisher.publishEvent(new MovieSavedEvent(movie));
         log.debug("Movie saved. title={}, docId={}", movie.getTitle(), movie.getDocId());
 
         if (dto.getStaffs() != null) {
-            savePeople(movie, dto.getStaffs());
+            savePeople(movie, dto.getStaffs(), personCache);
+        }
+    }
+
+    /**
+     * 페이지 일괄 저장 (JDBC batch, 페이지당 한 트랜잭션)
+     *
+     * - 새 영화는 인물/출연 정보와 함께 저장
+     * - 기존 영화는 내용 해시(contentHash)가 바뀐 경우만 갱신하고 출연 행은 차이만 반영
+     * - 영화 존재 확인/ID 확인/인물 확인은 페이지당 IN 조회로 처리 (행마다 조회하지 않음)
+     */
+    public MovieSaveResult saveMoviesBulk(List<KmdbMovieDto> dtos) {
+        return saveMoviesBulk(dtos, null, new PersonIdentityCache());
+    }
+
+    /**
+     * 동기화 1회용 docId 필터 구성 (movie 테이블의 docId 를 한 번만 읽음)
+     *
+     * @param expectedNew 이번 동기화로 늘어날 수 있는 영화 수 (필터 크기 계산용)
+     */
+    @Transactional(readOnly = true)
+    public DocIdMembership loadDocIdMembership(int expectedNew) {
+        long start = System.currentTimeMillis();
+        DocIdMembership membership = new DocIdMembership(movieRepository.count() + Math.max(expectedNew, 0));
+        movieBulkRepository.forEachDocId(membership::add);
+        log.info("DocId filter loaded. stats={}, elapsedMs={}", membership.getStats(), System.currentTimeMillis() - start);
+        return membership;
+    }
+
+    /**
+     * @param membership  docId 필터 (null 이면 페이지 전체를 IN 조회로 확인)
+     * @param personCache 실행 단위 인물 ID 캐시 (페이지 간 공유)
+     */
+    public MovieSaveResult saveMoviesBulk(List<KmdbMovieDto> dtos, DocIdMembership membership,
+                                          PersonIdentityCache personCache) {
+        // 페이지 안 중복 docId 는 먼저 나온 행만 사용 (saveMovies 와 동일)
+        Map<String, KmdbMovieDto> byDocId = new LinkedHashMap<>();
+        for (KmdbMovieDto dto : dtos) {
+            if (dto.getDocId() != null && !dto.getDocId().isBlank()) {
+                byDocId.putIfAbsent(dto.getDocId(), dto);
+            }
+        }
+        int skipped = dtos.size() - byDocId.size();
+
+        // 필터가 "없음"으로 판정한 docId 는 조회 없이 새 영화로 처리
+        Set<String> candidates = membership != null ? membership.maybeExisting(byDocId.keySet()) : byDocId.keySet();
+        Map<String, MovieBulkRepository.StoredMovie> existing = candidates.isEmpty()
+                ? Map.of()
+                : movieBulkRepository.findStoredMoviesByDocIds(candidates);
+        if (membership != null) {
+            membership.verified(candidates.size(), existing.size());
+        }
+
+        // 기존 영화는 내용 해시가 다를 때만 갱신 대상
+        List<KmdbMovieDto> newMovies = new ArrayList<>();
+        Map<Long, KmdbMovieDto> changed = new LinkedHashMap<>();
+        for (KmdbMovieDto dto : byDocId.values()) {
+            MovieBulkRepository.StoredMovie stored = existing.get(dto.getDocId());
+            if (stored == null) {
+                newMovies.add(dto);
+            } else if (!MovieContentHash.of(dto).equals(stored.getContentHash())) {
+                changed.put(stored.getId(), dto);
+            }
+        }
+        int unchanged = existing.size() - changed.size();
+
+        Set<String> inserted = movieBulkRepository.insertMovies(newMovies);
+        if (membership != null) {
+            inserted.forEach(membership::add);
+        }
+        int updated = movieBulkRepository.updateMovies(changed);
+        updateMoviePeople(changed, personCache);
+        newMovies.removeIf(dto -> !inserted.contains(dto.getDocId()));
+
+        Map<String, Long> movieIds = movieBulkRepository.findMovieIdsByDocIds(inserted);
+        saveMoviePeople(newMovies, movieIds, personCache);
+
+        for (KmdbMovieDto dto : newMovies) {
+            Long id = movieIds.get(dto.getDocId());
+            if (id != null) {
+                eventPublisher.publishEvent(new MovieSavedEvent(MovieEntity.from(dto).toBuilder().id(id).build()));
+            }
+        }
+        // 갱신된 영화도 바뀐 제목으로 다시 색인
+        changed.forEach((id, dto) ->
+                eventPublisher.publishEvent(new MovieSavedEvent(MovieEntity.from(dto).toBuilder().id(id).build())));
+
+        log.debug("Movie bulk save completed. inserted={}, updated={}, unchanged={}, skipped={}",
+                inserted.size(), updated, unchanged, skipped);
+        return new MovieSaveResult(inserted.size(), updated, unchanged, skipped);
+    }
+
+    /**
+     * 갱신된 영화들의 출연 행 차이만 반영
+     *
+     * - (인물, 역할 그룹, 역할명) 이 같은 행은 그대로 두고, 사라진 행은 DELETE, 새 행은 INSERT
+     */
+    private void updateMoviePeople(Map<Long, KmdbMovieDto> changed, PersonIdentityCache personCache) {
+        if (changed.isEmpty()) return;
+
+        Map<Long, Map<String, Deque<Long>>> currentByMovie = new HashMap<>();
+        for (MovieBulkRepository.StoredMoviePerson row : movieBulkRepository.findMoviePersons(changed.keySet())) {
+            currentByMovie.computeIfAbsent(row.getMovieId(), id -> new HashMap<>())
+                    .computeIfAbsent(roleKey(row.getPersonId(), row.getRoleGroup(), row.getRoleName()),
+                            key -> new ArrayDeque<>())
+                    .add(row.getId());
+        }
+
+        List<KmdbPersonDto> staffs = new ArrayList<>();
+        for (KmdbMovieDto dto : changed.values()) {
+            if (dto.getStaffs() != null) {
+                staffs.addAll(dto.getStaffs());
+            }
+        }
+        Map<String, Long> personIds = resolvePersonIds(staffs, personCache);
+
+        List<MovieBulkRepository.MoviePersonRow> added = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (Map.Entry<Long, KmdbMovieDto> entry : changed.entrySet()) {
+            Map<String, Deque<Long>> current = currentByMovie.getOrDefault(entry.getKey(), new HashMap<>());
+            List<KmdbPersonDto> movieStaffs = entry.getValue().getStaffs() != null ? entry.getValue().getStaffs() : List.of();
+            for (KmdbPersonDto staff : movieStaffs) {
+                Long personId = personIds.get(personKey(staff));
+                if (personId == null) continue;
+                Deque<Long> same = current.get(roleKey(personId, staff.getRoleGroup(), staff.getRoleName()));
+                if (same != null && !same.isEmpty()) {
+                    same.poll();    // 그대로 유지
+                } else {
+                    added.add(new MovieBulkRepository.MoviePersonRow(entry.getKey(), personId,
+                            staff.getRoleGroup(), staff.getRoleName()));
+                }
+            }
+            current.values().forEach(removed::addAll);
+        }
+
+        movieBulkRepository.deleteMoviePersons(removed);
+        movieBulkRepository.insertMoviePersons(added);
+        log.debug("Movie people updated. movies={}, added={}, removed={}", changed.size(), added.size(), removed.size());
+    }
+
+    private static String roleKey(long personId, String roleGroup, String roleName) {
+        return personId + "|" + roleGroup + "|" + roleName;
+    }
+
+    // 새 영화들의 인물/출연 행 일괄 저장
+    private void saveMoviePeople(List<KmdbMovieDto> movies, Map<String, Long> movieIds, PersonIdentityCache personCache) {
+        List<KmdbPersonDto> staffs = new ArrayList<>();
+        for (KmdbMovieDto dto : movies) {
+            if (dto.getStaffs() != null) {
+                staffs.addAll(dto.getStaffs());
+            }
+        }
+        Map<String, Long> personIds = resolvePersonIds(staffs, personCache);
+        if (personIds.isEmpty()) return;
+
+        List<MovieBulkRepository.MoviePersonRow> rows = new ArrayList<>();
+        for (KmdbMovieDto dto : movies) {
+            Long movieId = movieIds.get(dto.getDocId());
+            if (movieId == null || dto.getStaffs() == null) continue;
+            for (KmdbPersonDto staff : dto.getStaffs()) {
+                Long personId = personIds.get(personKey(staff));
+                if (personId != null) {
+                    rows.add(new MovieBulkRepository.MoviePersonRow(movieId, personId,
+                            staff.getRoleGroup(), staff.getRoleName()));
+                }
+            }
+        }
+        movieBulkRepository.insertMoviePersons(rows);
+    }
+
+    /**
+     * 인물 키 → 인물 ID (캐시 → IN 조회 한 번 → 없는 인물 일괄 INSERT 순)
+     *
+     * - 같은 호출 안의 중복 인물은 먼저 나온 이름으로 한 번만 저장
+     * - 새 인물은 kmdbPersonId 순으로 INSERT (동시 트랜잭션끼리 같은 순서로 키를 잠가 교착 방지)
+     * - 이번에 INSERT 한 인물은 커밋 후에만 공유 캐시에 반영 (PersonIdentityCache)
+     */
+    private Map<String, Long> resolvePersonIds(List<KmdbPersonDto> staffs, PersonIdentityCache personCache) {
+        Map<String, MovieBulkRepository.PersonRow> persons = new LinkedHashMap<>();
+        for (KmdbPersonDto staff : staffs) {
+            String key = personKey(staff);
+            if (key != null) {
+                persons.putIfAbsent(key, new MovieBulkRepository.PersonRow(key, staff.getName(), staff.getNameEn()));
+            }
         }
+        Map<String, Long> personIds = new HashMap<>();
+        if (persons.isEmpty()) return personIds;
+
+        Set<String> uncached = personCache.resolve(persons.keySet(), personIds);
+        if (uncached.isEmpty()) return personIds;
+
+        Map<String, Long> found = movieBulkRepository.findPersonIdsByKeys(uncached);
+        personCache.loaded(found);
+        personIds.putAll(found);
+
+        List<MovieBulkRepository.PersonRow> missing = uncached.stream()
+                .filter(key -> !found.containsKey(key))
+                .map(persons::get)
+                .sorted(Comparator.comparing(MovieBulkRepository.PersonRow::getKmdbPersonId))
+                .toList();
+        if (!missing.isEmpty()) {
+            movieBulkRepository.insertPersons(missing);
+            Map<String, Long> created = movieBulkRepository.findPersonIdsByKeys(
+                    missing.stream().map(MovieBulkRepository.PersonRow::getKmdbPersonId).toList());
+            personCache.created(created);
+            personIds.putAll(created);
+        }
+        return personIds;
+    }
+
+    // KMDB 인물 ID, 없으면 이름
+    private static String personKey(KmdbPersonDto staff) {
+        return (staff.getPersonId() == null || staff.getPersonId().isBlank())
+                ? staff.getName()
+                : staff.getPersonId();
     }
 
-    private void savePeople(MovieEntity movie, List<KmdbPersonDto> staffs) {
+    private void savePeople(MovieEntity movie, List<KmdbPersonDto> staffs, PersonIdentityCache personCache) {
+        Map<String, Long> personIds = resolvePersonIds(staffs, personCache);
+
         for (KmdbPersonDto staff : staffs) {
-            String personKey = (staff.getPersonId() == null || staff.getPersonId().isBlank())
-                    ? staff.getName()
-                    : staff.getPersonId();
-
-            PersonEntity person = personRepository.findByKmdbPersonId(personKey)
-                    .orElseGet(() -> personRepository.save(
-                            PersonEntity.builder()
-                                    .kmdbPersonId(personKey)
-                                    .name(staff.getName())
-                                    .nameEn(staff.getNameEn())
-                                    .build()
-                    ));
+            Long personId = personIds.get(personKey(staff));
+            if (personId == null) continue;
 
             moviePersonRepository.save(
                     MoviePersonEntity.builder()
                             .movie(movie)
-                            .person(person)
+                            .person(personRepository.getReferenceById(personId))
                             .roleGroup(staff.getRoleGroup())
                             .roleName(staff.getRoleName())
                             .build()
@@ -106,46 +341,184 @@ public class MovieSyncService {
         log.info("Finished syncing by title: {}", title);
     }
 
+    /**
+     * 연도 동기화 (순차 조회, 페이지마다 한 트랜잭션)
+     *
+     * - 페이지 저장과 체크포인트 갱신을 같은 트랜잭션에서 커밋 → 중단/실패 시 다음 실행은 이어서 조회
+     * - 페이지 조회는 백오프 재시도, 끝내 실패하면 체크포인트를 남기고 중단
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void syncMoviesByYear(int year) {
-        String releaseDts = year + "0101";
-        String releaseDte = year + "1231";
-        int listCount = 500;
-        int startCount = 0;
+        syncRange(KmdbSyncRange.released(year + "0101", year + "1231"));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void syncMoviesByDay(String releaseDts, String releaseDte) {
+        syncRange(KmdbSyncRange.released(releaseDts, releaseDte));
+    }
+
+    private void syncRange(KmdbSyncRange range) {
+        int startCount = beginCheckpoint(range, SYNC_PAGE_SIZE);
         int total = 0;
 
-        log.info("Starting movie sync. year={}", year);
+        log.info("Starting movie sync. range={}, startCount={}", range, startCount);
 
-        while (true) {
-            List<KmdbMovieDto> movies = kmdbAdapter.searchMovies(releaseDts, releaseDte, listCount, startCount);
-            if (movies.isEmpty()) break;
+        PersonIdentityCache personCache = new PersonIdentityCache();
+        try {
+            Set<Integer> committed = getCommittedAhead(range);
+            DocIdMembership membership = readOnlyTransaction().execute(status -> loadDocIdMembership(0));
+            while (true) {
+                if (committed.contains(startCount)) {   // 이전 실행에서 이미 커밋된 페이지
+                    startCount += SYNC_PAGE_SIZE;
+                    continue;
+                }
+                List<KmdbMovieDto> movies = fetchPageWithRetry(range, startCount);
+                if (movies.isEmpty()) break;
 
-            saveMovies(movies);
-            total += movies.size();
-            startCount += listCount;
+                int pageStart = startCount;
+                transactionTemplate.executeWithoutResult(status ->
+                        savePage(range, SYNC_PAGE_SIZE, pageStart, movies, membership, personCache));
+                total += movies.size();
+                startCount += SYNC_PAGE_SIZE;
 
-            log.info("Movie batch saved. batchSize={}, totalSaved={}", movies.size(), total);
+                log.info("Movie batch saved. batchSize={}, totalSaved={}, nextStartCount={}", movies.size(), total, startCount);
+            }
+        } catch (RuntimeException e) {
+            finishCheckpoint(range, "FAILED", e.getMessage());
+            log.error("Movie sync stopped. range={}, resumeFrom={}", range, startCount, e);
+            throw e;
         }
 
-        log.info("Movie sync completed. year={}, totalCount={}", year, total);
+        finishCheckpoint(range, "COMPLETED", null);
+        log.info("Movie sync completed. range={}, totalCount={}", range, total);
+    }
+
+    // 자기 호출은 @Transactional 프록시를 거치지 않으므로 읽기 전용 트랜잭션을 직접 염
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private List<KmdbMovieDto> fetchPageWithRetry(KmdbSyncRange range, int startCount) {
+        long backoff = FETCH_BACKOFF_MILLIS;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return kmdbAdapter.searchMovies(range.getReleaseDts(), range.getReleaseDte(), SYNC_PAGE_SIZE, startCount);
+            } catch (RuntimeException e) {
+                if (attempt >= FETCH_MAX_RETRIES) {
+                    throw new KmdbApiException("KMDB 조회 실패(startCount=" + startCount + "): " + e.getMessage());
+                }
+                log.warn("Movie page fetch failed, retrying. startCount={}, attempt={}, backoffMs={}: {}",
+                        startCount, attempt + 1, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new KmdbApiException("KMDB 조회 중단(startCount=" + startCount + ")");
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 시작 (이어서 실행할 수 있으면 다음 startCount, 아니면 새로 시작해 0)
+     *
+     * - 겹치는 기간은 한 번에 하나만 실행 (비동기 작업, /sync/year, 증분 동기화, 백필이 모두 여기를 거침)
+     * - 시작에 성공한 실행은 반드시 finishCheckpoint 로 끝내야 다음 실행이 가능
+     *
+     * @throws BadRequestException 겹치는 기간의 동기화가 이미 실행 중인 경우
+     */
+    public int beginCheckpoint(KmdbSyncRange range, int pageSize) {
+        acquire(range);
+        try {
+            SyncCheckpoint checkpoint = syncCheckpointRepository.findById(range.key())
+                    .filter(c -> c.isResumable(pageSize))
+                    .orElse(null);
+            if (checkpoint == null) {
+                syncCheckpointRepository.save(SyncCheckpoint.start(range.key(), pageSize));
+                return 0;
+            }
+            checkpoint.resume();
+            syncCheckpointRepository.save(checkpoint);
+            log.info("Resuming movie sync from checkpoint. range={}, lastCommittedPage={}, startCount={}, committedAhead={}",
+                    range, checkpoint.getLastCommittedPage(), checkpoint.getNextStartCount(),
+                    checkpoint.getCommittedAhead());
+            return checkpoint.getNextStartCount();
+        } catch (RuntimeException e) {
+            releaseNow(range.key());
+            throw e;
+        }
+    }
+
+    /**
+     * 이어서 실행할 때 건너뛸 페이지 (beginCheckpoint 가 돌려준 startCount 뒤에서 이미 커밋된 페이지의 startCount)
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> getCommittedAhead(KmdbSyncRange range) {
+        return syncCheckpointRepository.findById(range.key())
+                .<Set<Integer>>map(SyncCheckpoint::getCommittedAhead)
+                .orElseGet(Set::of);
     }
-    public void syncMoviesByDay(String releaseDts, String releaseDte) {
-        int listCount = 500;
-        int startCount = 0;
-        int total = 0;
 
-        log.info("Starting movie sync. releaseDts={}, releaseDte={}", releaseDts, releaseDte);
+    /**
+     * 페이지 저장 + 체크포인트 갱신 (같은 트랜잭션)
+     */
+    public MovieSaveResult savePage(KmdbSyncRange range, int pageSize, int startCount, List<KmdbMovieDto> dtos,
+                                    DocIdMembership membership, PersonIdentityCache personCache) {
+        MovieSaveResult result = saveMoviesBulk(dtos, membership, personCache);
+        SyncCheckpoint checkpoint = syncCheckpointRepository.findById(range.key())
+                .orElseGet(() -> SyncCheckpoint.start(range.key(), pageSize));
+        checkpoint.committed(startCount);
+        syncCheckpointRepository.save(checkpoint);
+        return result;
+    }
 
-        while (true) {
-            List<KmdbMovieDto> movies = kmdbAdapter.searchMovies(releaseDts, releaseDte, listCount, startCount);
-            if (movies.isEmpty()) break;
+    // 체크포인트 종료 + 기간 해제 (종료 상태가 커밋된 뒤에 다음 실행이 시작하도록)
+    // 완료된 증분(수정일) 범위는 매일 키가 바뀌어 다시 쓰이지 않으므로 남기지 않고 삭제
+    public void finishCheckpoint(KmdbSyncRange range, String status, String error) {
+        try {
+            syncCheckpointRepository.findById(range.key()).ifPresent(checkpoint -> {
+                if (range.isIncremental() && "COMPLETED".equals(status)) {
+                    syncCheckpointRepository.delete(checkpoint);
+                    return;
+                }
+                checkpoint.finish(status, error);
+                syncCheckpointRepository.save(checkpoint);
+            });
+        } finally {
+            release(range.key());
+        }
+    }
 
-            saveMovies(movies);
-            total += movies.size();
-            startCount += listCount;
+    private void acquire(KmdbSyncRange range) {
+        synchronized (runningRanges) {
+            for (KmdbSyncRange running : runningRanges.values()) {
+                if (running.overlaps(range)) {
+                    throw new BadRequestException("겹치는 기간의 동기화가 이미 실행 중입니다: " + running);
+                }
+            }
+            runningRanges.put(range.key(), range);
+        }
+    }
 
-            log.info("Movie batch saved. batchSize={}, totalSaved={}", movies.size(), total);
+    private void release(String rangeKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(rangeKey);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                releaseNow(rangeKey);
+            }
+        });
+    }
 
-        log.info("Movie sync completed. releaseDts={}, releaseDte={}, totalCount={}", releaseDts, releaseDte, total);
+    private void releaseNow(String rangeKey) {
+        synchronized (runningRanges) {
+            runningRanges.remove(rangeKey);
+        }
     }
 }
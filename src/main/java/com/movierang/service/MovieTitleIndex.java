@@ -0,0 +1,312 @@
+package com.movierang.service;
+
+import com.movierang.entity.MovieEntity;
+import com.movierang.event.MovieSavedEvent;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import com.movierang.util.ReleaseDateUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 제목 n-gram 역색인 (메모리)
+ *
+ * - title / titleEng / titleOrg / titleEtc 를 소문자로 정규화한 뒤 2-gram, 3-gram 으로 색인
+ * - 검색어의 gram 목록을 교집합 → 원문 contains 로 검증 → 개봉일 내림차순 정렬 → 페이지 ID 반환
+ * - DB는 최종 페이지의 ID 조회에만 사용 (ILIKE '%kw%' 풀스캔 제거)
+ * - 색인이 준비되기 전에는 empty 를 반환하여 호출자가 DB 검색으로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieTitleIndex {
+    private static final char FIELD_SEPARATOR = '\u0001';
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final MovieRepository movieRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private boolean ready = false;
+
+    // 재구성 중 들어온 색인 요청 (재구성 완료 후 반영)
+    private List<MovieTitleRowValue> pending = null;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        try {
+            for (MovieTitleRow row : movieRepository.findAllTitleRows()) {
+                fresh.add(MovieTitleRowValue.from(row));
+            }
+        } catch (Exception e) {
+            log.error("제목 색인 구성 실패 - DB 검색으로 대체합니다.", e);
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(fresh::add);
+            pending = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("제목 색인 구성 완료 - {}편, gram {}개, {}ms",
+                fresh.ordinalById.size(), fresh.postings.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커밋 이후 색인 반영 (롤백된 영화가 검색되지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieSaved(MovieSavedEvent event) {
+        index(event.getMovie());
+    }
+
+    public void index(MovieEntity movie) {
+        if (movie.getId() == null) {
+            return;
+        }
+        MovieTitleRowValue value = MovieTitleRowValue.from(movie);
+
+        lock.writeLock().lock();
+        try {
+            state.add(value);
+            if (pending != null) {
+                pending.add(value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 검색 (개봉일 내림차순)
+     *
+     * @return 색인이 준비되지 않았으면 empty
+     */
+    public Optional<SearchResult> search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            List<Integer> matches = state.match(query);
+            matches.sort(state.order());
+
+            int from = Math.min(Math.max(offset, 0), matches.size());
+            int to = (int) Math.min((long) from + Math.max(limit, 0), matches.size());
+
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(state.docs.get(matches.get(i)).id);
+            }
+            return Optional.of(new SearchResult(ids, matches.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult {
+        private final List<Long> ids;   // 요청한 페이지의 영화 ID (정렬 순서 유지)
+        private final long total;       // 전체 매칭 건수
+    }
+
+    // ========== 내부 구조 ==========
+
+    private static class State {
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        void add(MovieTitleRowValue value) {
+            Integer previous = ordinalById.get(value.id);
+            if (previous != null) {
+                deleted.set(previous);  // 기존 문서는 삭제 표시 (재구성 시 정리)
+            }
+
+            int ordinal = docs.size();
+            docs.add(new Doc(value.id, value.sortKey, value.text));
+            ordinalById.put(value.id, ordinal);
+
+            String text = value.text;
+            for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    String gram = text.substring(i, i + n);
+                    if (gram.indexOf(FIELD_SEPARATOR) >= 0) continue;
+                    postings.computeIfAbsent(gram, k -> new Postings()).add(ordinal);
+                }
+            }
+        }
+
+        List<Integer> match(String query) {
+            List<Integer> result = new ArrayList<>();
+
+            int gramSize = Math.min(query.length(), MAX_GRAM);
+            if (gramSize < MIN_GRAM) {
+                // 1글자 이하: 색인 없이 메모리 스캔
+                for (int ord = 0; ord < docs.size(); ord++) {
+                    if (!deleted.get(ord) && docs.get(ord).text.contains(query)) {
+                        result.add(ord);
+                    }
+                }
+                return result;
+            }
+
+            List<Postings> lists = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i + gramSize <= query.length(); i++) {
+                String gram = query.substring(i, i + gramSize);
+                if (!seen.add(gram)) continue;
+
+                Postings p = postings.get(gram);
+                if (p == null) {
+                    return result;  // 없는 gram → 결과 없음
+                }
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            int[] candidates = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = lists.get(i).retainInto(candidates, count);
+            }
+
+            for (int i = 0; i < count; i++) {
+                int ord = candidates[i];
+                if (!deleted.get(ord) && docs.get(ord).text.contains(query)) {
+                    result.add(ord);
+                }
+            }
+            return result;
+        }
+
+        // 개봉일 내림차순, 같으면 ID 내림차순
+        Comparator<Integer> order() {
+            return (a, b) -> {
+                Doc da = docs.get(a);
+                Doc db = docs.get(b);
+                int cmp = Integer.compare(db.sortKey, da.sortKey);
+                return cmp != 0 ? cmp : Long.compare(db.id, da.id);
+            };
+        }
+    }
+
+    private static class Doc {
+        private final long id;
+        private final int sortKey;
+        private final String text;
+
+        Doc(long id, int sortKey, String text) {
+            this.id = id;
+            this.sortKey = sortKey;
+            this.text = text;
+        }
+    }
+
+    // ordinal 오름차순으로만 추가되므로 항상 정렬 상태
+    private static class Postings {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) return;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        // candidates[0..count) 중 이 목록에 있는 값만 남기고 남은 개수 반환 (정렬 병합)
+        int retainInto(int[] candidates, int count) {
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < count; i++) {
+                int c = candidates[i];
+                while (j < size && values[j] < c) j++;
+                if (j == size) break;
+                if (values[j] == c) {
+                    candidates[kept++] = c;
+                }
+            }
+            return kept;
+        }
+    }
+
+    private static class MovieTitleRowValue {
+        private final long id;
+        private final int sortKey;
+        private final String text;
+
+        private MovieTitleRowValue(long id, int sortKey, String text) {
+            this.id = id;
+            this.sortKey = sortKey;
+            this.text = text;
+        }
+
+        static MovieTitleRowValue from(MovieTitleRow row) {
+            return new MovieTitleRowValue(row.getId(), ReleaseDateUtils.toSortKey(row.getRepRlsDate()),
+                    joinFields(row.getTitle(), row.getTitleEng(), row.getTitleOrg(), row.getTitleEtc()));
+        }
+
+        static MovieTitleRowValue from(MovieEntity movie) {
+            return new MovieTitleRowValue(movie.getId(), ReleaseDateUtils.toSortKey(movie.getRepRlsDate()),
+                    joinFields(movie.getTitle(), movie.getTitleEng(), movie.getTitleOrg(), movie.getTitleEtc()));
+        }
+
+        private static String joinFields(String... fields) {
+            StringBuilder sb = new StringBuilder();
+            for (String field : fields) {
+                if (field == null || field.isBlank()) continue;
+                if (sb.length() > 0) sb.append(FIELD_SEPARATOR);
+                sb.append(normalize(field));
+            }
+            return sb.toString();
+        }
+    }
+}
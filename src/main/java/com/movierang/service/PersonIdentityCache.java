@@ -0,0 +1,97 @@
+package com.movierang.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동기화 1회 동안 쓰는 인물 ID 캐시 (kmdbPersonId → person.id)
+ *
+ * - 인기 배우/감독은 한 해에 수백 편에 나오므로 페이지마다 다시 조회하지 않도록 실행 단위로 보관
+ * - 캐시에 없는 키만 페이지당 IN 조회 한 번, 그래도 없는 인물은 한 번에 INSERT
+ * - 새로 INSERT 한 인물은 그 트랜잭션 안에서만 보이다가 커밋 후 공유 캐시에 반영
+ *   (동시에 도는 다른 트랜잭션이 아직 커밋 안 된 인물 ID 로 출연 행을 만들지 않도록, 롤백되면 버림)
+ */
+public final class PersonIdentityCache {
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    // 조회 통계
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+
+    /**
+     * 캐시에서 찾은 ID 를 resolved 에 채우고, 없는 키 반환 (DB 조회 필요)
+     */
+    public Set<String> resolve(Collection<String> keys, Map<String, Long> resolved) {
+        Set<String> missing = new LinkedHashSet<>();
+        Map<String, Long> pending = pending(false);
+        for (String key : keys) {
+            Long id = ids.get(key);
+            if (id == null && pending != null) {
+                id = pending.get(key);
+            }
+            if (id != null) {
+                resolved.put(key, id);
+            } else {
+                missing.add(key);
+            }
+        }
+        hits.addAndGet(keys.size() - missing.size());
+        misses.addAndGet(missing.size());
+        return missing;
+    }
+
+    // DB 에서 찾은 ID 반영
+    public void loaded(Map<String, Long> found) {
+        queries.incrementAndGet();
+        ids.putAll(found);
+    }
+
+    // 새로 INSERT 한 인물 ID 반영 (트랜잭션 중이면 커밋 후 공유)
+    public void created(Map<String, Long> created) {
+        inserted.addAndGet(created.size());
+        Map<String, Long> pending = pending(true);
+        if (pending != null) {
+            pending.putAll(created);
+        } else {
+            ids.putAll(created);
+        }
+    }
+
+    // 현재 트랜잭션에서 INSERT 한 인물 (트랜잭션이 없으면 null)
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> pending(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        Map<String, Long> pending = (Map<String, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            Map<String, Long> local = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, local);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PersonIdentityCache.this);
+                    if (status == STATUS_COMMITTED) {
+                        ids.putAll(local);
+                    }
+                }
+            });
+            pending = local;
+        }
+        return pending;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("persons", ids.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("queries", queries.get());
+        stats.put("inserted", inserted.get());
+        return stats;
+    }
+}
@@ -0,0 +1,188 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.exception.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KMDB 동기화 비동기 작업 (관리자 실행)
+ *
+ * - 요청 스레드는 작업 ID 만 받고 바로 반환, 동기화는 전용 스레드 풀에서 실행
+ * - 동시에 실행하는 작업은 MAX_RUNNING_JOBS 개, 대기열은 MAX_QUEUED_JOBS 개까지 (넘으면 거절)
+ * - 기간이 겹치는 작업은 MAX_JOBS_PER_RANGE 개까지만 대기/실행 (등록 시 미리 거절, 예: 2024년 전체와 2024년 6월)
+ *   실행 시점에는 MovieSyncService.beginCheckpoint 가 다른 경로(/sync/year, 증분 동기화 등)까지 포함해 다시 확인
+ * - 대기 중인 작업은 바로 취소, 실행 중인 작업은 저장 중인 페이지까지 커밋 후 중단
+ * - 끝난 작업은 최근 MAX_RETAINED_JOBS 개까지 조회 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncJobService {
+    public static final int MAX_RUNNING_JOBS = 2;
+    private static final int MAX_QUEUED_JOBS = 4;
+    private static final int MAX_JOBS_PER_RANGE = 1;
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private final KmdbSyncService kmdbSyncService;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            MAX_RUNNING_JOBS, MAX_RUNNING_JOBS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_JOBS),
+            r -> {
+                Thread thread = new Thread(r, "kmdb-sync-job-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    // 작업 ID → 작업 (생성 순서 유지)
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    /**
+     * 작업 등록 (비동기)
+     *
+     * @throws BadRequestException 기간이 겹치는 작업이 이미 있거나 대기열이 가득 찬 경우
+     */
+    public synchronized Map<String, Object> submit(KmdbSyncRange range, int parallelism) {
+        long overlapping = jobs.values().stream()
+                .filter(job -> job.isActive() && job.report.getRange().overlaps(range))
+                .count();
+        if (overlapping >= MAX_JOBS_PER_RANGE) {
+            throw new BadRequestException("기간이 겹치는 동기화 작업이 이미 실행 중입니다: " + range);
+        }
+
+        Job job = new Job(UUID.randomUUID().toString().substring(0, 8), kmdbSyncService.prepare(range, parallelism));
+        try {
+            job.future = executor.submit(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            throw new BadRequestException("대기 중인 동기화 작업이 너무 많습니다 (실행 " + MAX_RUNNING_JOBS
+                    + "개, 대기 " + MAX_QUEUED_JOBS + "개)");
+        }
+        jobs.put(job.id, job);
+        evictFinished();
+        log.info("KMDB 동기화 작업 등록 - id={}, {}", job.id, range);
+        return job.toMap();
+    }
+
+    public synchronized Optional<Map<String, Object>> get(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toMap);
+    }
+
+    // 최근 작업부터
+    public synchronized List<Map<String, Object>> list() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        jobs.values().forEach(job -> result.add(0, job.toMap()));
+        return result;
+    }
+
+    /**
+     * 작업 취소 (대기 중이면 바로 취소, 실행 중이면 중단 요청)
+     *
+     * @return 작업이 없으면 empty
+     */
+    public synchronized Optional<Map<String, Object>> cancel(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.isActive()) {
+            job.report.cancel();
+            if (job.future.cancel(false)) {    // 아직 시작 전
+                job.finish("CANCELLED", null);
+            }
+            log.info("KMDB 동기화 작업 취소 요청 - id={}", id);
+        }
+        return Optional.of(job.toMap());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            jobs.values().stream().filter(Job::isActive).forEach(job -> job.report.cancel());
+        }
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        if (job.report.isCancelRequested()) {
+            job.finish("CANCELLED", null);
+            return;
+        }
+        job.start();
+        try {
+            kmdbSyncService.execute(job.report);
+            job.finish(job.report.getStatus(), null);
+        } catch (Exception e) {
+            job.finish("FAILED", e.getMessage());
+            log.error("KMDB 동기화 작업 실패 - id={}, {}", job.id, job.report.getRange(), e);
+        }
+    }
+
+    // 끝난 작업부터 오래된 순으로 정리
+    private void evictFinished() {
+        Iterator<Job> it = jobs.values().iterator();
+        while (jobs.size() > MAX_RETAINED_JOBS && it.hasNext()) {
+            if (!it.next().isActive()) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final KmdbSyncService.SyncReport report;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private volatile Future<?> future;
+        private volatile String status = "QUEUED";
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, KmdbSyncService.SyncReport report) {
+            this.id = id;
+            this.report = report;
+        }
+
+        boolean isActive() {
+            return "QUEUED".equals(status) || "RUNNING".equals(status);
+        }
+
+        void start() {
+            this.startedAt = LocalDateTime.now();
+            this.status = "RUNNING";
+        }
+
+        void finish(String status, String error) {
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", id);
+            map.put("status", status);
+            map.put("range", report.getRange().toString());
+            map.put("cancelRequested", report.isCancelRequested());
+            map.put("createdAt", createdAt.toString());
+            map.put("startedAt", startedAt != null ? startedAt.toString() : null);
+            map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            if (error != null) {
+                map.put("error", error);
+            }
+            if (startedAt != null) {
+                map.put("progress", report.toMap());
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.movierang.service;
+
+import com.movierang.dto.movie.MovieAutocompleteDto;
+import com.movierang.entity.MovieEntity;
+import com.movierang.event.MovieSavedEvent;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.MovieStatsRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import com.movierang.repository.projection.MovieViewCountRow;
+import com.movierang.util.HangulUtils;
+import com.movierang.util.ReleaseDateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제목 자동완성 색인 (정렬 배열 + 이진 탐색)
+ *
+ * - 자모 키: 제목/영문 제목을 자모로 분해한 문자열 ("부산행" → "ㅂㅜㅅㅏㄴㅎㅐㅇ")
+ * - 초성 키: 제목의 초성 문자열 ("부산행" → "ㅂㅅㅎ")
+ * - 제목 시작뿐 아니라 각 단어 시작 위치도 키로 등록 (공백 제거)
+ * - 접두어 범위를 이진 탐색으로 찾고, 범위 전체를 훑으며 크기 N 힙으로 조회수(MovieStats.viewCount) 상위 N개 선택
+ * - 짧은 접두어(SHORT_PREFIX_LENGTH 자 이하 - 한두 글자 입력)는 범위가 너무 넓어 매 입력마다 훑지 않고,
+ *   정렬 배열을 만들 때 접두어별로 뽑아 둔 조회수 상위 SHORT_PREFIX_CANDIDATES 편만 현재 조회수로 다시 랭킹
+ *   (후보 구성은 재구성 시점의 조회수 기준)
+ * - 읽기는 불변 스냅샷(volatile)만 사용하므로 락/DB 접근 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleAutocompleteIndex {
+    private static final int DELTA_LIMIT = 256;    // 이 개수를 넘으면 정렬 배열 재구성
+    private static final int SHORT_PREFIX_LENGTH = 4;           // 자모/초성 키 기준 (예: "부" = ㅂㅜ, "가나" = ㄱㅏㄴㅏ)
+    private static final int SHORT_PREFIX_CANDIDATES = 100;     // 짧은 접두어별 후보 수 (자동완성 최대 개수보다 넉넉하게)
+
+    private final MovieRepository movieRepository;
+    private final MovieStatsRepository movieStatsRepository;
+
+    private final Map<Long, Long> viewCounts = new ConcurrentHashMap<>();
+
+    // 쓰기 전용 원본 (synchronized)
+    private final Map<Long, Doc> docById = new HashMap<>();
+    private final List<Doc> delta = new ArrayList<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<Long, Doc> docs = new HashMap<>();
+            for (MovieTitleRow row : movieRepository.findAllTitleRows()) {
+                docs.put(row.getId(), new Doc(row.getId(), row.getTitle(), row.getTitleEng(),
+                        ReleaseDateUtils.toSortKey(row.getRepRlsDate())));
+            }
+            for (MovieViewCountRow row : movieStatsRepository.findAllViewCounts()) {
+                viewCounts.put(row.getMovieId(), row.getViewCount());
+            }
+
+            synchronized (this) {
+                docs.values().forEach(doc -> docById.putIfAbsent(doc.id, doc));
+                delta.clear();
+                snapshot = Snapshot.build(docById.values(), viewCounts);
+            }
+            log.info("자동완성 색인 구성 완료 - {}편, 키 {}개, {}ms",
+                    docs.size(), snapshot.keys.length + snapshot.choKeys.length,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("자동완성 색인 구성 실패", e);
+        }
+    }
+
+    // 커밋 이후 색인 반영 (롤백된 영화가 검색되지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieSaved(MovieSavedEvent event) {
+        index(event.getMovie());
+    }
+
+    public synchronized void index(MovieEntity movie) {
+        if (movie.getId() == null || movie.getTitle() == null) {
+            return;
+        }
+        Doc doc = new Doc(movie.getId(), movie.getTitle(), movie.getTitleEng(),
+                ReleaseDateUtils.toSortKey(movie.getRepRlsDate()));
+        docById.put(doc.id, doc);
+        delta.add(doc);
+
+        if (delta.size() > DELTA_LIMIT) {
+            delta.clear();
+            snapshot = Snapshot.build(docById.values(), viewCounts);
+        } else {
+            snapshot = snapshot.withDelta(delta.toArray(new Doc[0]));
+        }
+    }
+
+    // 랭킹용 조회수 반영
+    public void updateViewCount(Long movieId, long viewCount) {
+        viewCounts.put(movieId, viewCount);
+    }
+
+    // 조회수 증가분 반영 (ViewCountBuffer flush 후)
+    public void addViewCount(Long movieId, long delta) {
+        viewCounts.merge(movieId, delta, Long::sum);
+    }
+
+    public List<MovieAutocompleteDto> suggest(String query, int limit) {
+        String normalized = HangulUtils.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean choseong = HangulUtils.isChoseongQuery(normalized);
+        String prefix = choseong ? normalized : HangulUtils.decompose(normalized);
+
+        Snapshot s = snapshot;
+        TopN top = new TopN(limit);
+        Set<Long> seen = new HashSet<>();
+
+        // delta 는 최신 문서부터 (같은 영화의 옛 문서와 정렬 배열의 옛 키 - 바뀌기 전 제목 - 는 무시)
+        for (int i = s.delta.length - 1; i >= 0; i--) {
+            Doc doc = s.delta[i];
+            if (!seen.add(doc.id)) continue;
+            for (String key : choseong ? doc.choKeys : doc.keys) {
+                if (key.startsWith(prefix)) {
+                    top.offer(doc);
+                    break;
+                }
+            }
+        }
+        if (prefix.length() <= SHORT_PREFIX_LENGTH && limit <= SHORT_PREFIX_CANDIDATES) {
+            Doc[] candidates = (choseong ? s.choShortTop : s.shortTop).get(prefix);
+            if (candidates != null) {
+                for (Doc doc : candidates) {
+                    if (seen.add(doc.id)) {
+                        top.offer(doc);
+                    }
+                }
+            }
+        } else if (choseong) {
+            collect(s.choKeys, s.choDocs, prefix, seen, top);
+        } else {
+            collect(s.keys, s.keyDocs, prefix, seen, top);
+        }
+
+        return top.sorted().stream()
+                .map(r -> MovieAutocompleteDto.builder()
+                        .id(r.doc.id)
+                        .title(r.doc.title)
+                        .titleEng(r.doc.titleEng)
+                        .viewCount(r.viewCount)
+                        .build())
+                .toList();
+    }
+
+    // 접두어 범위 전체를 상위 N 후보로 (한 영화의 여러 키는 한 번만)
+    private void collect(String[] keys, Doc[] docs, String prefix, Set<Long> seen, TopN top) {
+        int from = lowerBound(keys, prefix);
+        for (int i = from; i < keys.length; i++) {
+            if (!keys[i].startsWith(prefix)) break;
+            if (seen.add(docs[i].id)) {
+                top.offer(docs[i]);
+            }
+        }
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // ========== 내부 구조 ==========
+
+    // 조회수 내림차순 → 개봉일 내림차순 상위 N개 (크기 N 최소 힙, 조회수는 후보로 넣을 때 값으로 고정)
+    private final class TopN {
+        private final int limit;
+        private final PriorityQueue<Ranked> heap;
+
+        TopN(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 64) + 1, Ranked.ORDER);
+        }
+
+        void offer(Doc doc) {
+            Ranked ranked = new Ranked(doc, viewCounts.getOrDefault(doc.id, 0L));
+            if (heap.size() < limit) {
+                heap.add(ranked);
+            } else if (Ranked.ORDER.compare(ranked, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        List<Ranked> sorted() {
+            List<Ranked> result = new ArrayList<>(heap);
+            result.sort(Ranked.ORDER.reversed());
+            return result;
+        }
+    }
+
+    private static final class Ranked {
+        // 낮은 순위가 앞 (힙에서 먼저 밀려남)
+        static final Comparator<Ranked> ORDER = Comparator.comparingLong((Ranked r) -> r.viewCount)
+                .thenComparingInt(r -> r.doc.sortKey);
+
+        private final Doc doc;
+        private final long viewCount;
+
+        Ranked(Doc doc, long viewCount) {
+            this.doc = doc;
+            this.viewCount = viewCount;
+        }
+    }
+
+    private static final class Doc {
+        private final long id;
+        private final String title;
+        private final String titleEng;
+        private final int sortKey;
+        private final String[] keys;
+        private final String[] choKeys;
+
+        Doc(long id, String title, String titleEng, int sortKey) {
+            this.id = id;
+            this.title = title;
+            this.titleEng = titleEng;
+            this.sortKey = sortKey;
+
+            Set<String> keySet = new LinkedHashSet<>();
+            Set<String> choSet = new LinkedHashSet<>();
+            for (String start : wordStarts(title)) {
+                String normalized = HangulUtils.normalize(start);
+                keySet.add(HangulUtils.decompose(normalized));
+                choSet.add(HangulUtils.choseong(normalized));
+            }
+            for (String start : wordStarts(titleEng)) {
+                keySet.add(HangulUtils.normalize(start));
+            }
+            keySet.remove("");
+            choSet.remove("");
+            this.keys = keySet.toArray(new String[0]);
+            this.choKeys = choSet.toArray(new String[0]);
+        }
+
+        // "택시 운전사" → ["택시 운전사", "운전사"]
+        private static List<String> wordStarts(String text) {
+            if (text == null || text.isBlank()) return List.of();
+            String trimmed = text.trim();
+            List<String> starts = new ArrayList<>();
+            starts.add(trimmed);
+            for (int i = 1; i < trimmed.length(); i++) {
+                if (Character.isWhitespace(trimmed.charAt(i - 1)) && !Character.isWhitespace(trimmed.charAt(i))) {
+                    starts.add(trimmed.substring(i));
+                }
+            }
+            return starts;
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new Doc[0], new String[0], new Doc[0],
+                Map.of(), Map.of(), new Doc[0]);
+
+        private final String[] keys;
+        private final Doc[] keyDocs;
+        private final String[] choKeys;
+        private final Doc[] choDocs;
+        private final Map<String, Doc[]> shortTop;      // 짧은 접두어 → 조회수 상위 후보
+        private final Map<String, Doc[]> choShortTop;
+        private final Doc[] delta;  // 정렬 배열에 아직 반영되지 않은 최근 문서
+
+        private Snapshot(String[] keys, Doc[] keyDocs, String[] choKeys, Doc[] choDocs,
+                         Map<String, Doc[]> shortTop, Map<String, Doc[]> choShortTop, Doc[] delta) {
+            this.keys = keys;
+            this.keyDocs = keyDocs;
+            this.choKeys = choKeys;
+            this.choDocs = choDocs;
+            this.shortTop = shortTop;
+            this.choShortTop = choShortTop;
+            this.delta = delta;
+        }
+
+        Snapshot withDelta(Doc[] newDelta) {
+            return new Snapshot(keys, keyDocs, choKeys, choDocs, shortTop, choShortTop, newDelta);
+        }
+
+        static Snapshot build(Collection<Doc> docs, Map<Long, Long> viewCounts) {
+            List<Map.Entry<String, Doc>> entries = new ArrayList<>();
+            List<Map.Entry<String, Doc>> choEntries = new ArrayList<>();
+            for (Doc doc : docs) {
+                for (String key : doc.keys) entries.add(Map.entry(key, doc));
+                for (String key : doc.choKeys) choEntries.add(Map.entry(key, doc));
+            }
+            entries.sort(Map.Entry.comparingByKey());
+            choEntries.sort(Map.Entry.comparingByKey());
+
+            return new Snapshot(
+                    entries.stream().map(Map.Entry::getKey).toArray(String[]::new),
+                    entries.stream().map(Map.Entry::getValue).toArray(Doc[]::new),
+                    choEntries.stream().map(Map.Entry::getKey).toArray(String[]::new),
+                    choEntries.stream().map(Map.Entry::getValue).toArray(Doc[]::new),
+                    shortPrefixTop(entries, viewCounts),
+                    shortPrefixTop(choEntries, viewCounts),
+                    new Doc[0]);
+        }
+
+        // 정렬된 키에서 같은 접두어(1 ~ SHORT_PREFIX_LENGTH 자)는 연속 구간이므로 구간마다 조회수 상위 후보를 뽑음
+        private static Map<String, Doc[]> shortPrefixTop(List<Map.Entry<String, Doc>> sorted, Map<Long, Long> viewCounts) {
+            Map<String, Doc[]> result = new HashMap<>();
+            for (int length = 1; length <= SHORT_PREFIX_LENGTH; length++) {
+                String prefix = null;
+                PriorityQueue<Ranked> heap = new PriorityQueue<>(SHORT_PREFIX_CANDIDATES + 1, Ranked.ORDER);
+                Set<Long> ids = new HashSet<>();
+                for (Map.Entry<String, Doc> entry : sorted) {
+                    String key = entry.getKey();
+                    if (key.length() < length) continue;
+                    if (prefix == null || !key.startsWith(prefix)) {
+                        putCandidates(result, prefix, heap);
+                        prefix = key.substring(0, length);
+                        ids.clear();
+                    }
+                    Doc doc = entry.getValue();
+                    if (!ids.add(doc.id)) continue;
+                    heap.add(new Ranked(doc, viewCounts.getOrDefault(doc.id, 0L)));
+                    if (heap.size() > SHORT_PREFIX_CANDIDATES) {
+                        heap.poll();
+                    }
+                }
+                putCandidates(result, prefix, heap);
+            }
+            return result;
+        }
+
+        private static void putCandidates(Map<String, Doc[]> result, String prefix, PriorityQueue<Ranked> heap) {
+            if (prefix != null) {
+                result.put(prefix, heap.stream().map(r -> r.doc).toArray(Doc[]::new));
+            }
+            heap.clear();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.movierang.service;
+
+import com.movierang.repository.MovieStatsBulkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 버퍼
+ *
+ * - 상세 조회는 영화별 LongAdder 만 올림 (DB 쓰기/락 없음 → 인기 영화도 경합 없음)
+ * - FLUSH_INTERVAL_MILLIS 마다 쌓인 증가분을 영화별 UPDATE ... viewCount + ? 한 batch 로 반영
+ * - 반영 실패 시 증가분을 버퍼에 되돌려 다음 flush 때 다시 시도
+ * - 종료 시(@PreDestroy) 남은 증가분을 마지막으로 반영 → 정상 종료에서는 유실 없음,
+ *   비정상 종료에서도 유실은 최대 FLUSH_INTERVAL_MILLIS 동안의 조회수
+ * - 카운터는 영화 수만큼만 생김 (영화당 한 개, flush 후에도 재사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private static final long FLUSH_INTERVAL_MILLIS = 5_000;
+
+    private final MovieStatsBulkRepository movieStatsBulkRepository;
+    private final TitleAutocompleteIndex titleAutocompleteIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        long pending = pendingViews();
+        if (pending > 0) {
+            log.warn("종료 시 반영하지 못한 조회수 {}건", pending);
+        }
+    }
+
+    public void increment(Long movieId) {
+        counters.computeIfAbsent(movieId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 쌓인 증가분 반영
+     *
+     * @return 반영한 조회수
+     */
+    public synchronized long flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((movieId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(movieId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> missing = movieStatsBulkRepository.addViewCounts(deltas);
+                if (missing.isEmpty()) return;
+                // 행이 없던 영화는 생성, 그 사이 찜 등으로 행이 생겼으면 다시 더하기
+                Set<Long> conflicted = movieStatsBulkRepository.insertViewCounts(subMap(deltas, missing));
+                if (!conflicted.isEmpty()) {
+                    movieStatsBulkRepository.addViewCounts(subMap(deltas, conflicted));
+                }
+            });
+        } catch (RuntimeException e) {
+            deltas.forEach((movieId, delta) -> counters.computeIfAbsent(movieId, id -> new LongAdder()).add(delta));
+            failedFlushes.incrementAndGet();
+            throw e;
+        }
+
+        // 랭킹용 조회수는 커밋된 증가분만 반영
+        deltas.forEach(titleAutocompleteIndex::addViewCount);
+        long views = deltas.values().stream().mapToLong(Long::longValue).sum();
+        flushedViews.addAndGet(views);
+        flushes.incrementAndGet();
+        log.debug("조회수 반영 - 영화 {}편, {}건", deltas.size(), views);
+        return views;
+    }
+
+    public long pendingViews() {
+        return counters.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedMovies", counters.size());
+        stats.put("pendingViews", pendingViews());
+        stats.put("flushedViews", flushedViews.get());
+        stats.put("flushes", flushes.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("flushIntervalMillis", FLUSH_INTERVAL_MILLIS);
+        return stats;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    private static Map<Long, Long> subMap(Map<Long, Long> deltas, Set<Long> movieIds) {
+        Map<Long, Long> result = new HashMap<>();
+        movieIds.forEach(id -> result.put(id, deltas.get(id)));
+        return result;
+    }
+}
@@ -10,6 +10,7 @@ import com.movierang.exception.BadRequestException;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.UserRepository;
 import com.movierang.repository.WatchHistoryRepository;
+import com.movierang.repository.projection.MovieSummaryRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -71,14 +72,14 @@ public class WatchHistoryService {
                 .distinct()
                 .toList();
 
-        // 3. 영화 정보 일괄 조회 (N+1 문제 해결)
-        Map<Long, MovieEntity> movieMap = movieRepository.findAllById(movieIds).stream()
-                .collect(Collectors.toMap(MovieEntity::getId, movie -> movie));
+        // 3. 영화 정보 일괄 조회 (N+1 문제 해결, 목록용 컬럼만)
+        Map<Long, MovieSummaryRow> movieMap = movieRepository.findSummariesByIdIn(movieIds).stream()
+                .collect(Collectors.toMap(MovieSummaryRow::getId, movie -> movie));
 
         // 4. Response 생성 (영화 정보 포함)
         return histories.stream()
                 .map(history -> {
-                    MovieEntity movie = movieMap.get(history.getMovieId());
+                    MovieSummaryRow movie = movieMap.get(history.getMovieId());
                     return WatchHistoryResponse.from(history, movie);
                 })
                 .toList();
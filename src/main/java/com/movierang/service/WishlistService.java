@@ -1,13 +1,13 @@
 package com.movierang.service;
 
 import com.movierang.dto.wishlist.WishlistItemResponse;
-import com.movierang.entity.MovieEntity;
 import com.movierang.entity.MovieStats;
 import com.movierang.entity.Wishlist;
 import com.movierang.exception.MovieNotFoundException;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.MovieStatsRepository;
 import com.movierang.repository.WishlistRepository;
+import com.movierang.repository.projection.MovieSummaryRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -112,9 +112,9 @@ public class WishlistService {
                 .map(Wishlist::getMovieId)
                 .toList();
 
-        // 영화 정보 일괄 조회 (N+1 해결)
-        Map<Long, MovieEntity> movieMap = movieRepository.findAllById(movieIds).stream()
-                .collect(Collectors.toMap(MovieEntity::getId, movie -> movie));
+        // 영화 정보 일괄 조회 (N+1 해결, 목록용 컬럼만)
+        Map<Long, MovieSummaryRow> movieMap = movieRepository.findSummariesByIdIn(movieIds).stream()
+                .collect(Collectors.toMap(MovieSummaryRow::getId, movie -> movie));
 
         // DTO 변환
         return wishlistItems.stream()
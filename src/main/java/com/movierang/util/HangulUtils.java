@@ -0,0 +1,109 @@
+package com.movierang.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 / 초성 추출
+ *
+ * - decompose: "붓" → "ㅂㅜㅅ", "과" → "ㄱㅗㅏ" (겹모음/겹받침도 낱자로 분해)
+ *   입력 중인 글자("붓", "부사")가 완성된 제목("부산")의 접두어가 되도록 하기 위함
+ * - choseong: "부산행" → "ㅂㅅㅎ" (한글 외 문자는 소문자로 유지)
+ */
+public final class HangulUtils {
+    private static final char SYLLABLE_BEGIN = 0xAC00;  // 가
+    private static final char SYLLABLE_END = 0xD7A3;    // 힣
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char JAMO_CONSONANT_BEGIN = 0x3131;  // ㄱ
+    private static final char JAMO_CONSONANT_END = 0x314E;    // ㅎ
+    private static final char JAMO_VOWEL_END = 0x3163;        // ㅣ
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulUtils() {
+    }
+
+    // 소문자 변환 + 공백 제거
+    public static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[offset % JONG_COUNT]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 완성형 글자/모음 없이 자음(초성)만으로 이루어진 검색어인지 (숫자/영문 혼용 허용)
+    public static boolean isChoseongQuery(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) return false;
+            if (c >= JAMO_CONSONANT_BEGIN && c <= JAMO_CONSONANT_END) {
+                hasConsonant = true;
+            } else if (c > JAMO_CONSONANT_END && c <= JAMO_VOWEL_END) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,67 @@
+package com.movierang.util;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.KmdbPersonDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * KMDB 영화 내용 해시 (SHA-256, hex 64자)
+ *
+ * 저장되는 필드와 인물 목록을 순서대로 이어 해시한다. 동기화 시 저장된 해시와 다를 때만 갱신.
+ * modDate 는 제외 (내용 변경 없이 수정일만 바뀐 경우 다시 쓰지 않도록).
+ */
+public final class MovieContentHash {
+    private static final char FIELD = '\u001F';
+    private static final char RECORD = '\u001E';
+    private static final String NULL = "\u0000";
+
+    private MovieContentHash() {
+    }
+
+    public static String of(KmdbMovieDto dto) {
+        StringBuilder sb = new StringBuilder(1024);
+        append(sb, dto.getMovieId(), dto.getMovieSeq(), dto.getDocId(),
+                trim(dto.getTitle()), trim(dto.getTitleEng()), trim(dto.getTitleOrg()), trim(dto.getTitleEtc()),
+                dto.getProdYear(), dto.getNation(), dto.getCompany(), dto.getGenre(), dto.getRating(),
+                dto.getRepRlsDate(), dto.getRuntime(), dto.getPlot(), dto.getType(), dto.getUseType(),
+                dto.getKmdbUrl(), dto.getKeywords(), dto.getPoster());
+        appendList(sb, dto.getPosters());
+        appendList(sb, dto.getStills());
+        appendList(sb, dto.getVodUrls());
+        if (dto.getStaffs() != null) {
+            for (KmdbPersonDto staff : dto.getStaffs()) {
+                append(sb, staff.getPersonId(), staff.getName(), staff.getNameEn(),
+                        staff.getRoleGroup(), staff.getRoleName());
+            }
+        }
+        return HexFormat.of().formatHex(sha256().digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void append(StringBuilder sb, String... values) {
+        for (String value : values) {
+            sb.append(value != null ? value : NULL).append(FIELD);
+        }
+        sb.append(RECORD);
+    }
+
+    private static void appendList(StringBuilder sb, List<String> values) {
+        append(sb, values == null ? new String[0] : values.toArray(String[]::new));
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
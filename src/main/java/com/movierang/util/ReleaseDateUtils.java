@@ -0,0 +1,43 @@
+package com.movierang.util;
+
+import java.time.LocalDate;
+
+/**
+ * KMDB 개봉일(repRlsDate) 정렬 키 변환
+ *
+ * KMDB는 개봉일이 월 단위로만 확정된 경우 일자를 "00"으로 내려준다 (예: 20250700).
+ * 정렬 시에는 해당 월의 마지막으로 취급해야 하므로 "00" → "99"로 바꿔 yyyymmdd 정수로 만든다.
+ */
+public final class ReleaseDateUtils {
+
+    private ReleaseDateUtils() {
+    }
+
+    // 변환 불가능한 값은 0 (가장 오래된 것으로 취급)
+    public static int toSortKey(String repRlsDate) {
+        if (repRlsDate == null) {
+            return 0;
+        }
+        String date = repRlsDate.trim();
+        if (date.length() != 8) {
+            return 0;
+        }
+        if (date.endsWith("00")) {
+            date = date.substring(0, 6) + "99";
+        }
+        try {
+            return Integer.parseInt(date);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    public static int toSortKey(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    // 해당 월의 일자 미정(00) 영화 정렬 키 (yyyymm99)
+    public static int undatedMonthKey(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + 99;
+    }
+}
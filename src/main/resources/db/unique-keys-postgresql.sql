@@ -0,0 +1,56 @@
+-- movie.docId / person.kmdbPersonId 중복 정리 후 유니크 인덱스 생성 (PostgreSQL)
+-- 중복이 없으면 아무것도 바뀌지 않으므로 기동할 때마다 실행해도 안전
+
+-- ========== 영화: docId 별로 가장 먼저 저장된 행(최소 id)만 남김 ==========
+CREATE TEMP TABLE movie_dup ON COMMIT DROP AS
+SELECT id, keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY docId) AS keep_id FROM movie WHERE docId IS NOT NULL) t
+WHERE id <> keep_id;
+
+-- 출연 정보는 남길 영화에도 같은 내용이 있으므로 중복 영화 것만 삭제
+DELETE FROM movie_person WHERE movie_id IN (SELECT id FROM movie_dup);
+
+-- 찜: 같은 사용자가 이미 남길 영화(또는 먼저 옮겨지는 중복 영화)를 찜했으면 삭제, 나머지는 옮김
+DELETE FROM wishlist w
+USING movie_dup d
+WHERE w.movie_id = d.id
+  AND EXISTS (SELECT 1 FROM wishlist o
+              WHERE o.user_id = w.user_id
+                AND (o.movie_id = d.keep_id
+                     OR (o.id < w.id AND o.movie_id IN (SELECT id FROM movie_dup d2 WHERE d2.keep_id = d.keep_id))));
+UPDATE wishlist w SET movie_id = d.keep_id FROM movie_dup d WHERE w.movie_id = d.id;
+
+-- 통계: 조회수는 합산, 찜 수는 옮긴 찜 기준으로 다시 계산
+INSERT INTO movie_stats (movie_id, viewCount, wishlistCount, version)
+SELECT DISTINCT d.keep_id, 0, 0, 0
+FROM movie_dup d
+JOIN movie_stats s ON s.movie_id = d.id
+WHERE NOT EXISTS (SELECT 1 FROM movie_stats k WHERE k.movie_id = d.keep_id);
+UPDATE movie_stats k
+SET viewCount = k.viewCount + s.viewCount,
+    wishlistCount = (SELECT COUNT(*) FROM wishlist w WHERE w.movie_id = k.movie_id),
+    version = k.version + 1
+FROM (SELECT d.keep_id, SUM(ms.viewCount) AS viewCount
+      FROM movie_dup d JOIN movie_stats ms ON ms.movie_id = d.id
+      GROUP BY d.keep_id) s
+WHERE k.movie_id = s.keep_id;
+DELETE FROM movie_stats WHERE movie_id IN (SELECT id FROM movie_dup);
+
+UPDATE kobis_movie_mapping m SET movie_id = d.keep_id FROM movie_dup d WHERE m.movie_id = d.id;
+UPDATE watch_history h SET movieId = d.keep_id FROM movie_dup d WHERE h.movieId = d.id;
+
+DELETE FROM movie WHERE id IN (SELECT id FROM movie_dup);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_movie_doc_id ON movie (docId);
+
+-- ========== 인물: kmdbPersonId 별로 최소 id 만 남기고 출연 행을 옮김 ==========
+CREATE TEMP TABLE person_dup ON COMMIT DROP AS
+SELECT id, keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY kmdbPersonId) AS keep_id FROM person WHERE kmdbPersonId IS NOT NULL) t
+WHERE id <> keep_id;
+
+UPDATE movie_person mp SET person_id = d.keep_id FROM person_dup d WHERE mp.person_id = d.id;
+
+DELETE FROM person WHERE id IN (SELECT id FROM person_dup);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_person_kmdb_person_id ON person (kmdbPersonId);
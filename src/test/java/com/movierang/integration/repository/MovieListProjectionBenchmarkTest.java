@@ -0,0 +1,151 @@
+package com.movierang.integration.repository;
+
+import com.movierang.entity.MovieEntity;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieSummaryRow;
+import com.movierang.util.ReleaseDateUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 projection 전송량 비교 (수동 실행: ./gradlew benchmark)
+ * - 전체 엔티티 조회(SELECT *) vs 목록용 projection 조회
+ * - 조회 결과가 담고 온 값 전부의 바이트 수로 비교 (엔티티는 JPA 메타모델의 모든 기본 속성,
+ *   projection 은 인터페이스의 모든 getter → 테스트가 고른 컬럼이 아니라 쿼리가 읽은 컬럼 기준)
+ * - 문자열은 UTF-8 길이, 숫자는 8 bytes 로 계산 (드라이버의 실제 프로토콜 오버헤드는 제외한 근사치)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("목록 projection 전송량 비교")
+class MovieListProjectionBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(MovieListProjectionBenchmarkTest.class);
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        movieRepository.deleteAll();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            MovieEntity movie = MovieEntity.builder()
+                    .docId("BENCH" + i)
+                    .title("벤치마크 영화 " + i)
+                    .genre("드라마")
+                    .rating("15세관람가")
+                    .poster("http://file.koreafilm.or.kr/thm/02/poster" + i + ".jpg")
+                    .repRlsDate("20240101")
+                    .releaseSortKey(20240101)
+                    .plot("줄거리 ".repeat(800))
+                    .keywords("키워드,".repeat(100))
+                    .posters(urls("poster", 10))
+                    .stills(urls("still", 30))
+                    .vodUrls(urls("vod", 5))
+                    .build();
+            ids.add(movieRepository.save(movie).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("projection은 TEXT 컬럼을 읽지 않아 전송량이 크게 줄어든다")
+    void projection_전송량_비교() {
+        // before: 전체 엔티티
+        long entityBytes = movieRepository.findAllById(ids).stream()
+                .mapToLong(this::entityBytes)
+                .sum();
+        entityManager.clear();
+
+        // after: 목록용 projection
+        long summaryBytes = movieRepository.findSummariesByIdIn(ids).stream()
+                .mapToLong(this::summaryBytes)
+                .sum();
+
+        LocalDate today = LocalDate.now();
+        long nowPlayingBytes = movieRepository.findNowPlayingMovies(
+                        ReleaseDateUtils.toSortKey(today), ReleaseDateUtils.undatedMonthKey(today),
+                        PageRequest.of(0, PAGE_SIZE))
+                .stream()
+                .mapToLong(this::summaryBytes)
+                .sum();
+
+        log.info("[목록 {}건] 전체 엔티티: {} bytes / projection: {} bytes (현재 상영작 페이지: {} bytes) → {}%",
+                PAGE_SIZE, entityBytes, summaryBytes, nowPlayingBytes,
+                String.format("%.1f", summaryBytes * 100.0 / entityBytes));
+
+        assertThat(nowPlayingBytes).isEqualTo(summaryBytes);
+        assertThat(summaryBytes * 10).isLessThan(entityBytes);
+    }
+
+    // 엔티티가 읽어온 모든 기본(컬럼) 속성
+    private long entityBytes(MovieEntity movie) {
+        long total = 0;
+        for (Attribute<? super MovieEntity, ?> attribute
+                : entityManager.getMetamodel().entity(MovieEntity.class).getAttributes()) {
+            if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) continue;
+            try {
+                Field field = (Field) attribute.getJavaMember();
+                field.setAccessible(true);
+                total += bytes(field.get(movie));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return total;
+    }
+
+    // projection 인터페이스의 모든 getter
+    private long summaryBytes(MovieSummaryRow row) {
+        long total = 0;
+        for (Method getter : MovieSummaryRow.class.getMethods()) {
+            try {
+                total += bytes(getter.invoke(row));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return total;
+    }
+
+    private long bytes(Object value) {
+        if (value == null) return 0;
+        if (value instanceof Number) return 8;
+        return value.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String urls(String prefix, int count) {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            urls.add("http://file.koreafilm.or.kr/" + prefix + "/" + i + ".jpg");
+        }
+        return String.join("|", urls);
+    }
+}
@@ -0,0 +1,87 @@
+package com.movierang.integration.service;
+
+import com.movierang.config.CacheConfig;
+import com.movierang.dto.movie.DailyBoxOfficeResponse;
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.service.BoxOfficeService;
+import com.movierang.service.KobisMovieMappingService;
+import com.movierang.service.MovieService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 박스오피스 최종 응답 캐시 테스트
+ * - 캐시 히트 시 영화 매칭(DB)을 다시 하지 않음
+ * - 박스오피스 결과는 호출마다 한 번만 조회 (캐시 키 계산에서 다시 조회하지 않음)
+ * - 캐시 삭제 후에는 다시 구성
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("박스오피스 응답 캐시 테스트")
+class BoxOfficeResponseCacheTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private BoxOfficeService boxOfficeService;
+
+    @MockitoSpyBean
+    private KobisMovieMappingService kobisMovieMappingService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.DAILY_BOX_OFFICE_RESPONSE).clear();
+
+        given(boxOfficeService.getDailyBoxOffice()).willReturn(DailyBoxOfficeResultDto.builder()
+                .boxOfficeType("일별 박스오피스")
+                .showRange("2025-01-01")
+                .dailyBoxOfficeList(List.of())
+                .build());
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시된 응답 반환")
+    void 응답_캐시_히트() {
+        // when
+        DailyBoxOfficeResponse first = movieService.getDailyBoxOfficeWithMovieInfo();
+        DailyBoxOfficeResponse second = movieService.getDailyBoxOfficeWithMovieInfo();
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(kobisMovieMappingService, times(1)).findMappedMovies(any());
+        verify(boxOfficeService, times(2)).getDailyBoxOffice();
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 후에는 다시 구성")
+    void 캐시_삭제_후_재구성() {
+        // given
+        movieService.getDailyBoxOfficeWithMovieInfo();
+
+        // when
+        cacheManager.getCache(CacheConfig.DAILY_BOX_OFFICE_RESPONSE).clear();
+        movieService.getDailyBoxOfficeWithMovieInfo();
+
+        // then
+        verify(kobisMovieMappingService, times(2)).findMappedMovies(any());
+    }
+}
@@ -0,0 +1,181 @@
+package com.movierang.integration.service;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.KmdbPersonDto;
+import com.movierang.repository.MoviePersonRepository;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.PersonRepository;
+import com.movierang.service.MovieSyncService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KMDB 페이지 저장 방식 비교 (수동 실행: ./gradlew benchmark)
+ * - 기존 경로(saveMovies: 영화/인물/출연 행마다 조회 + IDENTITY INSERT) vs JDBC 일괄 저장(saveMoviesBulk)
+ * - 같은 모양의 페이지(영화 N편 × 인물 M명, 인물 일부 중복)를 각각 저장해 소요 시간과 결과 행 수 비교
+ * - 두 경로 모두 워밍업한 뒤, 측정 라운드마다 실행 순서를 번갈아 바꿔 평균 (먼저 실행한 쪽만 콜드 JVM 비용을 내지 않도록)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("KMDB 페이지 저장 방식 비교")
+class MovieBulkSaveBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(MovieBulkSaveBenchmarkTest.class);
+    private static final int MOVIES = 200;
+    private static final int STAFF_PER_MOVIE = 30;
+    private static final int PERSON_POOL = 600;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 4;
+
+    @Autowired
+    private MovieSyncService movieSyncService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private MoviePersonRepository moviePersonRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        moviePersonRepository.deleteAll();
+        personRepository.deleteAll();
+        movieRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("일괄 저장은 기존 경로와 같은 행을 만든다")
+    void 저장_방식_비교() {
+        // 워밍업 (결과 버림)
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            saveJpa("WJ" + i);
+            saveBulk("WB" + i);
+        }
+
+        // 측정 - 짝수 라운드는 기존 경로 먼저, 홀수 라운드는 일괄 저장 먼저
+        long jpaNanos = 0;
+        long bulkNanos = 0;
+        Measured jpa = null;
+        Measured bulk = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round % 2 == 0) {
+                jpa = saveJpa("J" + round);
+                bulk = saveBulk("B" + round);
+            } else {
+                bulk = saveBulk("B" + round);
+                jpa = saveJpa("J" + round);
+            }
+            jpaNanos += jpa.nanos;
+            bulkNanos += bulk.nanos;
+        }
+
+        double jpaMillis = jpaNanos / 1_000_000.0 / ROUNDS;
+        double bulkMillis = bulkNanos / 1_000_000.0 / ROUNDS;
+        log.info("[영화 {}편 × 인물 {}명, {}회 평균] 기존 경로: {} ms / 일괄 저장: {} ms → {}배",
+                MOVIES, STAFF_PER_MOVIE, ROUNDS, String.format("%.1f", jpaMillis), String.format("%.1f", bulkMillis),
+                String.format("%.1f", jpaMillis / Math.max(bulkMillis, 0.001)));
+
+        assertThat(bulk.counts.movies).isEqualTo(jpa.counts.movies).isEqualTo(MOVIES);
+        assertThat(bulk.counts.persons).isEqualTo(jpa.counts.persons).isPositive();
+        assertThat(bulk.counts.moviePersons).isEqualTo(jpa.counts.moviePersons)
+                .isEqualTo((long) MOVIES * STAFF_PER_MOVIE);
+    }
+
+    // 기존 경로 (flush 까지 포함해야 INSERT 시간이 잡힘)
+    private Measured saveJpa(String prefix) {
+        return measure(() -> movieSyncService.saveMovies(page(prefix)));
+    }
+
+    // JDBC 일괄 저장 (다른 docId/인물 키로 같은 모양의 페이지)
+    private Measured saveBulk(String prefix) {
+        return measure(() -> movieSyncService.saveMoviesBulk(page(prefix)));
+    }
+
+    private Measured measure(Runnable save) {
+        Counts before = counts();
+        long start = System.nanoTime();
+        save.run();
+        entityManager.flush();
+        long nanos = System.nanoTime() - start;
+        entityManager.clear();
+        return new Measured(nanos, counts().minus(before));
+    }
+
+    private Counts counts() {
+        return new Counts(movieRepository.count(), personRepository.count(), moviePersonRepository.count());
+    }
+
+    // 영화마다 인물 풀에서 STAFF_PER_MOVIE 명씩 (영화 간 인물 중복)
+    private List<KmdbMovieDto> page(String prefix) {
+        List<KmdbMovieDto> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            List<KmdbPersonDto> staffs = new ArrayList<>();
+            for (int j = 0; j < STAFF_PER_MOVIE; j++) {
+                int person = (i * 7 + j * 20) % PERSON_POOL;
+                staffs.add(KmdbPersonDto.builder()
+                        .personId(prefix + "P" + person)
+                        .name("인물" + person)
+                        .roleGroup(j == 0 ? "감독" : "출연")
+                        .roleName(j == 0 ? null : "배역" + j)
+                        .build());
+            }
+            movies.add(KmdbMovieDto.builder()
+                    .docId(prefix + i)
+                    .title("벤치마크 영화 " + prefix + i)
+                    .genre("드라마")
+                    .repRlsDate("20240101")
+                    .plot("줄거리 ".repeat(100))
+                    .poster("http://file.koreafilm.or.kr/thm/02/" + prefix + i + ".jpg")
+                    .staffs(staffs)
+                    .build());
+        }
+        return movies;
+    }
+
+    private static final class Measured {
+        private final long nanos;
+        private final Counts counts;    // 이번 저장으로 늘어난 행 수
+
+        Measured(long nanos, Counts counts) {
+            this.nanos = nanos;
+            this.counts = counts;
+        }
+    }
+
+    private static final class Counts {
+        private final long movies;
+        private final long persons;
+        private final long moviePersons;
+
+        Counts(long movies, long persons, long moviePersons) {
+            this.movies = movies;
+            this.persons = persons;
+            this.moviePersons = moviePersons;
+        }
+
+        Counts minus(Counts other) {
+            return new Counts(movies - other.movies, persons - other.persons, moviePersons - other.moviePersons);
+        }
+    }
+}
@@ -2,22 +2,34 @@ package com.movierang.integration.service;
 
 import com.movierang.dto.movie.kmdb.KmdbMovieDto;
 import com.movierang.dto.movie.kmdb.KmdbPersonDto;
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
 import com.movierang.entity.MovieEntity;
+import com.movierang.exception.BadRequestException;
 import com.movierang.repository.MoviePersonRepository;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.PersonRepository;
+import com.movierang.repository.SyncCheckpointRepository;
+import com.movierang.dto.movie.MovieAutocompleteDto;
+import com.movierang.service.DocIdMembership;
 import com.movierang.service.MovieSyncService;
+import com.movierang.service.MovieTitleIndex;
+import com.movierang.service.PersonIdentityCache;
+import com.movierang.service.TitleAutocompleteIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * MovieSyncService 통합 테스트
@@ -41,6 +53,18 @@ class MovieSyncServiceTest {
     @Autowired
     private MoviePersonRepository moviePersonRepository;
 
+    @Autowired
+    private SyncCheckpointRepository syncCheckpointRepository;
+
+    @Autowired
+    private MovieTitleIndex movieTitleIndex;
+
+    @Autowired
+    private TitleAutocompleteIndex titleAutocompleteIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         moviePersonRepository.deleteAll();
@@ -210,4 +234,279 @@ class MovieSyncServiceTest {
         // then - 이름으로 재사용
         assertThat(personRepository.count()).isEqualTo(1);
     }
+    @Test
+    @DisplayName("일괄 저장 - 페이지 내 중복은 건너뛰고 내용이 바뀐 기존 영화는 갱신")
+    void 일괄_저장_중복_필터링() {
+        // given - 기존 영화 (포스터 없음)
+        movieSyncService.saveSingleMovie(KmdbMovieDto.builder()
+                .docId("F001")
+                .title("기존 영화")
+                .build());
+
+        List<KmdbMovieDto> dtos = List.of(
+                KmdbMovieDto.builder().docId("F001").title("기존 영화 v2").poster("http://poster/F001.jpg").build(),
+                KmdbMovieDto.builder().docId("F002").title("영화2").build(),
+                KmdbMovieDto.builder().docId("F002").title("영화2 다른버전").build()
+        );
+
+        // when
+        MovieSaveResult result = movieSyncService.saveMoviesBulk(dtos);
+
+        // then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(movieRepository.count()).isEqualTo(2);
+
+        entityManager.clear();  // JDBC 로 갱신한 내용을 다시 읽기 위해
+        List<MovieEntity> movies = movieRepository.findAll();
+        assertThat(movies).extracting(MovieEntity::getTitle).containsExactlyInAnyOrder("기존 영화 v2", "영화2");
+        assertThat(movies).filteredOn(m -> m.getDocId().equals("F001"))
+                .extracting(MovieEntity::getPoster)
+                .containsExactly("http://poster/F001.jpg");
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 내용 해시가 같은 기존 영화는 갱신하지 않음")
+    void 일괄_저장_변경_없음() {
+        // given
+        KmdbMovieDto dto = KmdbMovieDto.builder().docId("F001").title("영화1").plot("줄거리").modDate("20240101").build();
+        movieSyncService.saveMoviesBulk(List.of(dto));
+
+        // when - 수정일만 바뀐 같은 내용
+        dto.setModDate("20240201");
+        MovieSaveResult result = movieSyncService.saveMoviesBulk(List.of(dto));
+
+        // then
+        assertThat(result.getInserted()).isZero();
+        assertThat(result.getUpdated()).isZero();
+        assertThat(result.getUnchanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 갱신된 영화의 출연 행은 차이만 반영")
+    void 일괄_저장_출연_차이_반영() {
+        // given
+        KmdbPersonDto director = KmdbPersonDto.builder().personId("P001").name("감독1").roleGroup("감독").build();
+        KmdbPersonDto actor1 = KmdbPersonDto.builder().personId("P002").name("배우1").roleGroup("출연").roleName("주인공").build();
+        KmdbPersonDto actor2 = KmdbPersonDto.builder().personId("P003").name("배우2").roleGroup("출연").roleName("조연").build();
+        movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F001").title("영화1").staffs(List.of(director, actor1)).build()));
+        Long directorRowId = moviePersonRepository.findAll().stream()
+                .filter(mp -> "감독".equals(mp.getRoleGroup()))
+                .findFirst().orElseThrow().getId();
+
+        // when - 배우1 → 배우2 로 교체
+        MovieSaveResult result = movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F001").title("영화1").staffs(List.of(director, actor2)).build()));
+
+        // then - 감독 행은 그대로, 배우 행만 교체
+        entityManager.clear();
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(personRepository.count()).isEqualTo(3);
+        assertThat(moviePersonRepository.findAll())
+                .extracting(mp -> mp.getPerson().getKmdbPersonId())
+                .containsExactlyInAnyOrder("P001", "P003");
+        assertThat(moviePersonRepository.findById(directorRowId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 제목이 바뀐 기존 영화는 커밋 후 새 제목으로 검색")
+    void 일괄_저장_제목_변경_색인() {
+        // given - 기존 제목으로 저장 후 커밋 (색인은 커밋 이후 반영)
+        movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("R001").title("가제 프로젝트 알파").build()));
+        commit();
+        Long id = movieRepository.findAll().get(0).getId();
+
+        // when - 같은 docId 가 새 제목으로 다시 들어옴
+        MovieSaveResult result = movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("R001").title("폭풍의 언덕 너머").build()));
+        commit();
+
+        // then
+        try {
+            assertThat(result.getUpdated()).isEqualTo(1);
+            assertThat(movieTitleIndex.search("언덕 너머", 0, 10)).hasValueSatisfying(
+                    search -> assertThat(search.getIds()).containsExactly(id));
+            assertThat(movieTitleIndex.search("프로젝트 알파", 0, 10)).hasValueSatisfying(
+                    search -> assertThat(search.getIds()).doesNotContain(id));
+            assertThat(titleAutocompleteIndex.suggest("폭풍의", 10))
+                    .extracting(MovieAutocompleteDto::getId).contains(id);
+            assertThat(titleAutocompleteIndex.suggest("가제 프로", 10))
+                    .extracting(MovieAutocompleteDto::getId).doesNotContain(id);
+        } finally {
+            movieRepository.deleteAll();
+            commit();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 인물은 키(personId, 없으면 이름)로 재사용")
+    void 일괄_저장_인물_재사용() {
+        // given - 기존 인물
+        movieSyncService.saveSingleMovie(KmdbMovieDto.builder()
+                .docId("F001")
+                .title("영화1")
+                .staffs(List.of(KmdbPersonDto.builder().personId("P001").name("감독1").roleGroup("감독").build()))
+                .build());
+
+        KmdbPersonDto director = KmdbPersonDto.builder().personId("P001").name("감독1").roleGroup("감독").build();
+        KmdbPersonDto actor = KmdbPersonDto.builder().personId("").name("무명배우").roleGroup("출연").build();
+        List<KmdbMovieDto> dtos = List.of(
+                KmdbMovieDto.builder().docId("F002").title("영화2").staffs(List.of(director, actor)).build(),
+                KmdbMovieDto.builder().docId("F003").title("영화3").staffs(List.of(actor)).build()
+        );
+
+        // when
+        movieSyncService.saveMoviesBulk(dtos);
+
+        // then - 인물 2명 (P001 재사용 + 무명배우), 출연 1 + 3
+        assertThat(movieRepository.count()).isEqualTo(3);
+        assertThat(personRepository.count()).isEqualTo(2);
+        assertThat(moviePersonRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - docId 필터 사용 시에도 기존 영화는 건너뜀")
+    void 일괄_저장_docId_필터() {
+        // given
+        movieSyncService.saveSingleMovie(KmdbMovieDto.builder().docId("F001").title("기존 영화").build());
+        DocIdMembership membership = movieSyncService.loadDocIdMembership(10);
+        PersonIdentityCache personCache = new PersonIdentityCache();
+
+        // when
+        MovieSaveResult first = movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F001").title("기존 영화 v2").build(),
+                KmdbMovieDto.builder().docId("F002").title("영화2").build()
+        ), membership, personCache);
+        MovieSaveResult second = movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F002").title("영화2 다시").build()
+        ), membership, personCache);
+
+        // then - 같은 실행에서 저장한 F002 도 다음 페이지에서 기존 영화로 판정
+        assertThat(first.getInserted()).isEqualTo(1);
+        assertThat(second.getInserted()).isZero();
+        assertThat(movieRepository.count()).isEqualTo(2);
+        assertThat(membership.getStats()).containsEntry("docIds", 2);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 - 앞 페이지에서 확인한 인물은 다음 페이지에서 조회하지 않음")
+    void 일괄_저장_인물_캐시() {
+        // given
+        PersonIdentityCache personCache = new PersonIdentityCache();
+        KmdbPersonDto director = KmdbPersonDto.builder().personId("P001").name("감독1").roleGroup("감독").build();
+        KmdbPersonDto actor = KmdbPersonDto.builder().personId("P002").name("배우1").roleGroup("출연").build();
+
+        // when - 두 페이지에 같은 인물
+        movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F001").title("영화1").staffs(List.of(director, actor)).build(),
+                KmdbMovieDto.builder().docId("F002").title("영화2").staffs(List.of(actor)).build()
+        ), null, personCache);
+        movieSyncService.saveMoviesBulk(List.of(
+                KmdbMovieDto.builder().docId("F003").title("영화3").staffs(List.of(director, actor)).build()
+        ), null, personCache);
+
+        // then - 인물 조회는 첫 페이지에서 한 번, 두 번째 페이지는 캐시로 해결
+        // (테스트 트랜잭션은 커밋되지 않으므로 새 인물은 트랜잭션 안에서만 보이고 공유 캐시에는 아직 없음)
+        assertThat(personRepository.count()).isEqualTo(2);
+        assertThat(moviePersonRepository.count()).isEqualTo(5);
+        assertThat(personCache.getStats())
+                .containsEntry("persons", 0)
+                .containsEntry("queries", 1L)
+                .containsEntry("inserted", 2L)
+                .containsEntry("hits", 2L);
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 실패한 페이지만 다시 조회, 완료 후에는 처음부터")
+    void 체크포인트_이어서_실행() {
+        // given - 실행 종료(기간 해제)는 커밋 이후에 반영되므로 실행마다 커밋
+        KmdbSyncRange range = KmdbSyncRange.released("20240101", "20241231");
+        PersonIdentityCache personCache = new PersonIdentityCache();
+        try {
+            assertThat(movieSyncService.beginCheckpoint(range, 500)).isZero();
+
+            // when - 5페이지 중 2페이지(startCount=500)만 실패하고 나머지는 커밋된 채 종료
+            for (int startCount : new int[]{0, 1000, 1500, 2000}) {
+                movieSyncService.savePage(range, 500, startCount,
+                        List.of(KmdbMovieDto.builder().docId("G" + startCount).title("영화" + startCount).build()),
+                        null, personCache);
+            }
+            movieSyncService.finishCheckpoint(range, "FAILED", "KMDB 조회 실패");
+            commit();
+
+            // then - 다시 실행하면 2페이지부터, 그 뒤 커밋된 페이지는 건너뜀
+            assertThat(movieSyncService.beginCheckpoint(range, 500)).isEqualTo(500);
+            assertThat(movieSyncService.getCommittedAhead(range)).containsExactlyInAnyOrder(1000, 1500, 2000);
+
+            movieSyncService.savePage(range, 500, 500,
+                    List.of(KmdbMovieDto.builder().docId("G500").title("영화500").build()), null, personCache);
+            assertThat(syncCheckpointRepository.findById(range.key())).hasValueSatisfying(checkpoint -> {
+                assertThat(checkpoint.getNextStartCount()).isEqualTo(2500);
+                assertThat(checkpoint.getCommittedAhead()).isEmpty();
+            });
+            movieSyncService.finishCheckpoint(range, "COMPLETED", null);
+            commit();
+
+            assertThat(movieSyncService.beginCheckpoint(range, 500)).isZero();
+            assertThat(movieSyncService.getCommittedAhead(range)).isEmpty();
+            movieSyncService.finishCheckpoint(range, "COMPLETED", null);
+            commit();
+        } finally {
+            movieRepository.deleteAll();
+            syncCheckpointRepository.deleteAll();
+            commit();
+        }
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 같은 기간이나 겹치는 기간은 끝나기 전까지 시작할 수 없음")
+    void 체크포인트_같은_기간_중복_실행() {
+        // given
+        KmdbSyncRange year = KmdbSyncRange.released("20230101", "20231231");
+        KmdbSyncRange month = KmdbSyncRange.released("20230601", "20230630");
+        KmdbSyncRange nextYear = KmdbSyncRange.released("20240101", "20241231");
+        KmdbSyncRange updated = KmdbSyncRange.updated("20230601", "20230630");
+        movieSyncService.beginCheckpoint(year, 500);
+
+        // when & then - 겹치지 않는 기간/다른 종류(수정일) 기간은 실행 가능 (기간 해제는 테스트 트랜잭션이 끝날 때)
+        assertThatThrownBy(() -> movieSyncService.beginCheckpoint(year, 500))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> movieSyncService.beginCheckpoint(month, 500))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(movieSyncService.beginCheckpoint(nextYear, 500)).isZero();
+        assertThat(movieSyncService.beginCheckpoint(updated, 500)).isZero();
+
+        movieSyncService.finishCheckpoint(year, "CANCELLED", null);
+        movieSyncService.finishCheckpoint(nextYear, "CANCELLED", null);
+        movieSyncService.finishCheckpoint(updated, "CANCELLED", null);
+    }
+
+    @Test
+    @DisplayName("체크포인트 - 완료된 증분(수정일) 범위는 남기지 않고 삭제, 실패하면 남김")
+    void 체크포인트_증분_범위_완료시_삭제() {
+        // given
+        KmdbSyncRange failed = KmdbSyncRange.updated("20240101", "20240102");
+        KmdbSyncRange completed = KmdbSyncRange.updated("20240109", "20240111");
+        movieSyncService.beginCheckpoint(failed, 500);
+        movieSyncService.beginCheckpoint(completed, 500);
+
+        // when
+        movieSyncService.finishCheckpoint(failed, "FAILED", "KMDB 조회 실패");
+        movieSyncService.finishCheckpoint(completed, "COMPLETED", null);
+
+        // then
+        assertThat(syncCheckpointRepository.findById(failed.key()))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.getStatus()).isEqualTo("FAILED"));
+        assertThat(syncCheckpointRepository.findById(completed.key())).isEmpty();
+    }
+
+    // 테스트 트랜잭션을 커밋하고(커밋 후 이벤트 리스너 실행) 새 트랜잭션 시작
+    private void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+    }
 }
@@ -0,0 +1,62 @@
+package com.movierang.unit.dto;
+
+import com.movierang.dto.movie.MovieCursor;
+import com.movierang.dto.movie.MovieCursorResponse;
+import com.movierang.repository.projection.MovieCursorRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MovieCursorResponse 단위 테스트
+ * - 다음 페이지 여부, 다음 커서는 조회한 release_sort_key 로 생성
+ */
+@DisplayName("MovieCursorResponse 단위 테스트")
+class MovieCursorResponseTest {
+
+    @Test
+    @DisplayName("size + 1건이면 다음 커서는 마지막 영화의 저장된 release_sort_key 와 ID")
+    void 다음_커서_저장된_정렬키() {
+        // given - 개봉일 문자열과 저장된 정렬 키가 다른 경우에도 쿼리가 비교한 저장값을 사용
+        List<MovieCursorRow> rows = List.of(
+                row(3L, "20250801", 20250801),
+                row(2L, "2025", 20250799),
+                row(1L, "20250701", 20250701));
+
+        // when
+        MovieCursorResponse response = MovieCursorResponse.of(rows, 2);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getSize()).isEqualTo(2);
+        MovieCursor next = MovieCursor.decode(response.getNextCursor());
+        assertThat(next.getReleaseSortKey()).isEqualTo(20250799);
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("size 이하이면 다음 커서 없음")
+    void 마지막_페이지() {
+        // when
+        MovieCursorResponse response = MovieCursorResponse.of(List.of(row(1L, "20250701", 20250701)), 2);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    private MovieCursorRow row(Long id, String repRlsDate, int releaseSortKey) {
+        return new MovieCursorRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return "영화" + id; }
+            @Override public String getGenre() { return null; }
+            @Override public String getPoster() { return null; }
+            @Override public String getRating() { return null; }
+            @Override public String getRepRlsDate() { return repRlsDate; }
+            @Override public int getReleaseSortKey() { return releaseSortKey; }
+        };
+    }
+}
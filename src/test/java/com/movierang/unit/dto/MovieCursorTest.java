@@ -0,0 +1,38 @@
+package com.movierang.unit.dto;
+
+import com.movierang.dto.movie.MovieCursor;
+import com.movierang.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MovieCursor 단위 테스트
+ * - 커서 인코딩/디코딩 검증
+ */
+@DisplayName("MovieCursor 단위 테스트")
+class MovieCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 값")
+    void 인코딩_디코딩() {
+        // given
+        MovieCursor cursor = MovieCursor.of(20250799, 1234L);
+
+        // when
+        MovieCursor decoded = MovieCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getReleaseSortKey()).isEqualTo(20250799);
+        assertThat(decoded.getId()).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - BadRequestException 발생")
+    void 잘못된_커서() {
+        assertThatThrownBy(() -> MovieCursor.decode("not-a-cursor!"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
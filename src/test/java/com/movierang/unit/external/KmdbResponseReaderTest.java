@@ -0,0 +1,101 @@
+package com.movierang.unit.external;
+
+import com.movierang.external.kmdb.KmdbResponse;
+import com.movierang.external.kmdb.KmdbResponseReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KmdbResponseReader 단위 테스트
+ * - Result 한 건씩 스트리밍 디코딩, 바이트 단위 제어 문자 제거
+ */
+@DisplayName("KmdbResponseReader 단위 테스트")
+class KmdbResponseReaderTest {
+
+    @Test
+    @DisplayName("Result 를 순서대로 한 건씩 넘기고 전체 건수 반환")
+    void 스트리밍_디코딩() {
+        // given
+        String json = """
+                {
+                    "Query": "",
+                    "TotalCount": 1200,
+                    "Data": [
+                        {
+                            "CollName": "kmdb_new2",
+                            "TotalCount": 1200,
+                            "Count": 2,
+                            "Result": [
+                                {"DOCID": "F001", "title": "극장판 귀멸의 칼날", "plots": {"plot": [{"plotLang": "한국어", "plotText": "줄거리"}]}},
+                                {"DOCID": "F002", "title": "영화2", "unknownField": [1, 2, {"a": 3}]}
+                            ]
+                        }
+                    ]
+                }
+                """;
+        List<KmdbResponse.Result> results = new ArrayList<>();
+
+        // when
+        int totalCount = KmdbResponseReader.read(stream(json), results::add);
+
+        // then
+        assertThat(totalCount).isEqualTo(1200);
+        assertThat(results).extracting(KmdbResponse.Result::getDOCID).containsExactly("F001", "F002");
+        assertThat(results.get(0).getTitle()).isEqualTo("극장판 귀멸의 칼날");
+    }
+
+    @Test
+    @DisplayName("문자열 안의 제어 문자는 제거하고 한글은 유지 (한 바이트씩 읽어도 동일)")
+    void 제어_문자_제거() {
+        // given - 제목에 \u0001, \u000B, \u001F 포함
+        String json = "{\"TotalCount\": 1, \"Data\": [{\"Result\": [{\"DOCID\": \"F001\", "
+                + "\"title\": \"귀멸\u0001의\u000B 칼날\u001F\"}]}]}";
+        List<KmdbResponse.Result> results = new ArrayList<>();
+
+        // when
+        KmdbResponseReader.read(oneByteAtATime(stream(json)), results::add);
+
+        // then
+        assertThat(results).extracting(KmdbResponse.Result::getTitle).containsExactly("귀멸의 칼날");
+    }
+
+    @Test
+    @DisplayName("컬렉션별 TotalCount 만 있으면 그 값을 사용")
+    void 컬렉션_전체_건수() {
+        String json = "{\"Data\": [{\"TotalCount\": 37, \"Result\": []}]}";
+
+        assertThat(KmdbResponseReader.read(stream(json), result -> { })).isEqualTo(37);
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 응답은 예외")
+    void 비정상_응답() {
+        assertThatThrownBy(() -> KmdbResponseReader.read(stream("<html>error</html>"), result -> { }))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 네트워크에서 잘게 나뉘어 도착하는 경우 (멀티바이트 문자 중간에서 끊김)
+    private static InputStream oneByteAtATime(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+}
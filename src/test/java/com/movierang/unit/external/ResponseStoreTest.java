@@ -0,0 +1,115 @@
+package com.movierang.unit.external;
+
+import com.movierang.config.WebClientConfig;
+import com.movierang.exception.ExternalApiException;
+import com.movierang.external.ResponseStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ResponseStore 단위 테스트
+ * - record 로 저장한 응답을 replay 에서 네트워크 없이 그대로 반환
+ */
+@DisplayName("ResponseStore 단위 테스트")
+class ResponseStoreTest {
+    private static final String BODY = "{\"TotalCount\": 1, \"Data\": [{\"Result\": [{\"DOCID\": \"F001\"}]}]}";
+    private static final ExchangeStrategies STRATEGIES = new WebClientConfig().apiExchangeStrategies();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("녹화한 응답을 API 키가 달라도 재생")
+    void 녹화_재생() throws IOException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction api = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK, STRATEGIES)
+                    .header("Content-Type", "application/json")
+                    .body(BODY)
+                    .build());
+        };
+
+        // when
+        String recorded = get(new ResponseStore("record", dir.toString(), STRATEGIES), api, "key-1");
+        String replayed = get(new ResponseStore("replay", dir.toString(), STRATEGIES), api, "key-2");
+
+        // then
+        assertThat(recorded).isEqualTo(BODY);
+        assertThat(replayed).isEqualTo(BODY);
+        assertThat(calls).hasValue(1);
+        try (Stream<Path> files = Files.list(dir.resolve("kmdb"))) {
+            assertThat(files).singleElement().satisfies(file -> assertThat(file.toString()).endsWith(".json.gz"));
+        }
+    }
+
+    @Test
+    @DisplayName("기본 디코딩 한도(256KB)보다 큰 응답도 원문 그대로 재생")
+    void 큰_응답_재생() {
+        // given - detail=Y 500건 페이지 크기의 응답 (약 3MB)
+        String row = "{\"plot\": \"" + "줄거리".repeat(1000) + "\"},";
+        String body = "{\"Data\": [{\"Result\": [" + row.repeat(300) + "{}]}]}";
+        ExchangeFunction api = request -> Mono.just(ClientResponse.create(HttpStatus.OK, STRATEGIES)
+                .header("Content-Type", "application/json")
+                .body(body)
+                .build());
+        get(new ResponseStore("record", dir.toString(), STRATEGIES), api, "key-1");
+
+        // when - 파이프라인과 같은 방식(byte[])으로 읽기
+        byte[] replayed = WebClient.builder()
+                .exchangeFunction(request -> Mono.error(new AssertionError("네트워크 호출")))
+                .filter(new ResponseStore("replay", dir.toString(), STRATEGIES).filter("kmdb"))
+                .build()
+                .get()
+                .uri("https://api.koreafilm.or.kr/search_json2.jsp?ServiceKey={key}&title=극장판&startCount=0", "key-2")
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .block();
+
+        // then
+        assertThat(replayed).hasSizeGreaterThan(256 * 1024);
+        assertThat(new String(replayed, StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("replay 모드에서 녹화가 없으면 호출하지 않고 오류")
+    void 녹화_없음() {
+        // given
+        ExchangeFunction api = request -> Mono.error(new AssertionError("네트워크 호출"));
+
+        // when & then
+        assertThatThrownBy(() -> get(new ResponseStore("replay", dir.toString(), STRATEGIES), api, "key-1"))
+                .isInstanceOf(ExternalApiException.class);
+    }
+
+    private String get(ResponseStore store, ExchangeFunction api, String serviceKey) {
+        return WebClient.builder()
+                .exchangeFunction(api)
+                .filter(store.filter("kmdb"))
+                .build()
+                .get()
+                .uri("https://api.koreafilm.or.kr/search_json2.jsp?ServiceKey={key}&title=극장판&startCount=0",
+                        serviceKey)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+    }
+}
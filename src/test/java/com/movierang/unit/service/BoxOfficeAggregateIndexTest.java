@@ -0,0 +1,113 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.event.BoxOfficeDailySavedEvent;
+import com.movierang.repository.BoxOfficeDailyRepository;
+import com.movierang.service.BoxOfficeAggregateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * BoxOfficeAggregateIndex 단위 테스트
+ * - 기간 합계, 날짜 교체, 과거 날짜 추가(백필) 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoxOfficeAggregateIndex 단위 테스트")
+class BoxOfficeAggregateIndexTest {
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private BoxOfficeDailyRepository boxOfficeDailyRepository;
+
+    private BoxOfficeAggregateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BoxOfficeAggregateIndex(boxOfficeDailyRepository);
+        given(boxOfficeDailyRepository.findAll(any(Sort.class))).willReturn(List.of());
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("기간 합계 - 관객수 내림차순, 기간 밖 날짜 제외")
+    void 기간_합계() {
+        // given
+        save(DAY1, item("A", 100, 1000), item("B", 50, 500));
+        save(DAY1.plusDays(1), item("A", 80, 800), item("B", 90, 900));
+        save(DAY1.plusDays(2), item("B", 70, 700));
+
+        // when
+        List<BoxOfficeAggregateIndex.Aggregate> all = index.aggregate(DAY1, DAY1.plusDays(2));
+        List<BoxOfficeAggregateIndex.Aggregate> secondDayOnly = index.aggregate(DAY1.plusDays(1), DAY1.plusDays(1));
+
+        // then
+        assertThat(all).extracting(BoxOfficeAggregateIndex.Aggregate::getMovieCd).containsExactly("B", "A");
+        assertThat(all.get(0).getAudiCnt()).isEqualTo(210);
+        assertThat(all.get(0).getSalesAmt()).isEqualTo(2100);
+        assertThat(all.get(0).getShowDays()).isEqualTo(3);
+        assertThat(all.get(1).getAudiCnt()).isEqualTo(180);
+        assertThat(secondDayOnly).extracting(BoxOfficeAggregateIndex.Aggregate::getAudiCnt).containsExactly(90L, 80L);
+        assertThat(index.aggregate(DAY1.minusDays(10), DAY1.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 날짜 재저장 시 교체 (순위에서 빠진 영화는 제외)")
+    void 날짜_교체() {
+        // given
+        save(DAY1, item("A", 100, 1000), item("B", 50, 500));
+
+        // when
+        save(DAY1, item("A", 120, 1200), item("C", 30, 300));
+
+        // then
+        List<BoxOfficeAggregateIndex.Aggregate> result = index.aggregate(DAY1, DAY1);
+        assertThat(result).extracting(BoxOfficeAggregateIndex.Aggregate::getMovieCd).containsExactly("A", "C");
+        assertThat(result.get(0).getAudiCnt()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("과거 날짜가 나중에 들어와도(백필) 누적합 유지")
+    void 과거_날짜_추가() {
+        // given
+        for (int i = 20; i < 60; i++) {
+            save(DAY1.plusDays(i), item("A", 10, 100));
+        }
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            save(DAY1.plusDays(i), item("A", 1, 10));
+        }
+
+        // then
+        BoxOfficeAggregateIndex.Aggregate total = index.aggregate(DAY1, DAY1.plusDays(59)).get(0);
+        assertThat(total.getAudiCnt()).isEqualTo(20 + 400);
+        assertThat(total.getShowDays()).isEqualTo(60);
+        assertThat(index.aggregate(DAY1.plusDays(15), DAY1.plusDays(24)).get(0).getAudiCnt()).isEqualTo(5 + 50);
+    }
+
+    private void save(LocalDate date, BoxOfficeItemDto... items) {
+        index.onBoxOfficeDailySaved(new BoxOfficeDailySavedEvent(date, new ArrayList<>(List.of(items))));
+    }
+
+    private BoxOfficeItemDto item(String movieCd, long audiCnt, long salesAmt) {
+        return BoxOfficeItemDto.builder()
+                .movieCd(movieCd)
+                .title("영화 " + movieCd)
+                .audiCnt(audiCnt)
+                .salesAmt(salesAmt)
+                .build();
+    }
+}
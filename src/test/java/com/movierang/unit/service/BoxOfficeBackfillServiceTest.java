@@ -0,0 +1,138 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.exception.BadRequestException;
+import com.movierang.exception.KobisApiException;
+import com.movierang.external.adapter.KobisAdapter;
+import com.movierang.service.BoxOfficeBackfillService;
+import com.movierang.service.BoxOfficeHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoxOfficeBackfillService 단위 테스트
+ * - 저장된 날짜 건너뛰기, 빈 날짜/실패 날짜 집계, 범위 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoxOfficeBackfillService 단위 테스트")
+class BoxOfficeBackfillServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private KobisAdapter kobisAdapter;
+
+    @Mock
+    private BoxOfficeHistoryService boxOfficeHistoryService;
+
+    private BoxOfficeBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new BoxOfficeBackfillService(kobisAdapter, boxOfficeHistoryService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backfillService.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장된 날짜는 건너뛰고 나머지를 조회/저장, 빈 날짜는 저장과 따로 집계, 실패 날짜는 기록")
+    void 백필_이어서_진행() throws Exception {
+        // given
+        given(boxOfficeHistoryService.findStoredDates(FROM, TO))
+                .willReturn(Set.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2)));
+        given(kobisAdapter.getDailyBoxOfficeAsync(anyString())).willAnswer(invocation -> {
+            String date = invocation.getArgument(0);
+            if (date.equals("20240105")) {
+                return Mono.error(new KobisApiException("박스오피스 조회 실패"));
+            }
+            LocalDate targetDt = LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+            return Mono.just(date.equals("20240107") ? emptyResult(targetDt) : result(targetDt));
+        });
+        given(boxOfficeHistoryService.saveAll(any())).willAnswer(invocation -> {
+            List<DailyBoxOfficeResultDto> batch = invocation.getArgument(0);
+            return (int) batch.stream().filter(r -> !r.getDailyBoxOfficeList().isEmpty()).count();
+        });
+
+        // when
+        backfillService.start(FROM, TO, 4);
+        Map<String, Object> progress = awaitFinished();
+
+        // then
+        assertThat(progress).containsEntry("status", "COMPLETED")
+                .containsEntry("totalDates", 10)
+                .containsEntry("skippedDates", 2)
+                .containsEntry("fetchedDates", 7)
+                .containsEntry("savedDates", 6)
+                .containsEntry("emptyDates", 1)
+                .containsEntry("failedDates", 1)
+                .containsEntry("failedDateList", List.of("2024-01-05"));
+        verify(kobisAdapter, never()).getDailyBoxOfficeAsync("20240101");
+        verify(boxOfficeHistoryService).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("오늘 이후 날짜나 잘못된 범위는 거부")
+    void 범위_검증() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> backfillService.start(TO, FROM, 4))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> backfillService.start(FROM, today, 4))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Map<String, Object> awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            Map<String, Object> progress = backfillService.getProgress().orElseThrow();
+            if (!"RUNNING".equals(progress.get("status"))) {
+                return progress;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("백필이 끝나지 않았습니다");
+    }
+
+    private DailyBoxOfficeResultDto result(LocalDate date) {
+        return DailyBoxOfficeResultDto.builder()
+                .boxOfficeType("일별 박스오피스")
+                .showRange(date.toString())
+                .dailyBoxOfficeList(List.of(BoxOfficeItemDto.builder()
+                        .rank(1)
+                        .movieCd("20240001")
+                        .title("테스트 영화")
+                        .build()))
+                .build();
+    }
+
+    private DailyBoxOfficeResultDto emptyResult(LocalDate date) {
+        return DailyBoxOfficeResultDto.builder()
+                .boxOfficeType("일별 박스오피스")
+                .showRange(date.toString())
+                .dailyBoxOfficeList(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.entity.BoxOfficeEmptyDay;
+import com.movierang.repository.BoxOfficeDailyRepository;
+import com.movierang.repository.BoxOfficeEmptyDayRepository;
+import com.movierang.service.BoxOfficeHistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoxOfficeHistoryService 단위 테스트
+ * - 백필 저장 시 빈 날짜 기록, 저장된 날짜 조회에 빈 날짜 포함
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoxOfficeHistoryService 단위 테스트")
+class BoxOfficeHistoryServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 10);
+
+    @Mock
+    private BoxOfficeDailyRepository boxOfficeDailyRepository;
+
+    @Mock
+    private BoxOfficeEmptyDayRepository boxOfficeEmptyDayRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BoxOfficeHistoryService boxOfficeHistoryService;
+
+    @Test
+    @DisplayName("빈 목록인 날짜는 빈 날짜로 기록하고 저장 날짜 수에서 제외")
+    void 빈_날짜_기록() {
+        // given
+        DailyBoxOfficeResultDto filled = result(LocalDate.of(2024, 1, 1), List.of(BoxOfficeItemDto.builder()
+                .rank(1)
+                .movieCd("20240001")
+                .title("테스트 영화")
+                .build()));
+        DailyBoxOfficeResultDto empty = result(LocalDate.of(2024, 1, 2), List.of());
+
+        // when
+        int savedDays = boxOfficeHistoryService.saveAll(List.of(filled, empty));
+
+        // then
+        assertThat(savedDays).isEqualTo(1);
+        ArgumentCaptor<BoxOfficeEmptyDay> captor = ArgumentCaptor.forClass(BoxOfficeEmptyDay.class);
+        verify(boxOfficeEmptyDayRepository).save(captor.capture());
+        assertThat(captor.getValue().getTargetDt()).isEqualTo(LocalDate.of(2024, 1, 2));
+        verify(boxOfficeEmptyDayRepository).deleteById(LocalDate.of(2024, 1, 1));
+        verify(boxOfficeDailyRepository).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("저장된 날짜에 빈 날짜도 포함 (백필 재실행 시 다시 조회하지 않음)")
+    void 저장된_날짜_빈_날짜_포함() {
+        // given
+        given(boxOfficeDailyRepository.findStoredDates(FROM, TO)).willReturn(List.of(LocalDate.of(2024, 1, 1)));
+        given(boxOfficeEmptyDayRepository.findTargetDts(FROM, TO)).willReturn(List.of(LocalDate.of(2024, 1, 2)));
+
+        // when & then
+        assertThat(boxOfficeHistoryService.findStoredDates(FROM, TO))
+                .containsExactlyInAnyOrder(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+    }
+
+    private DailyBoxOfficeResultDto result(LocalDate date, List<BoxOfficeItemDto> items) {
+        return DailyBoxOfficeResultDto.builder()
+                .boxOfficeType("일별 박스오피스")
+                .showRange(date.toString())
+                .dailyBoxOfficeList(items)
+                .build();
+    }
+}
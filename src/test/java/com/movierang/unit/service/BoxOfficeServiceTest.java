@@ -0,0 +1,200 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.boxoffice.DailyBoxOfficeResultDto;
+import com.movierang.exception.KobisApiException;
+import com.movierang.external.adapter.KobisAdapter;
+import com.movierang.service.BoxOfficeHistoryService;
+import com.movierang.service.BoxOfficeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * BoxOfficeService 단위 테스트
+ * - stale-while-revalidate, single-flight 갱신, 갱신 실패 시 이전 결과 유지 검증
+ * - 지정 날짜 조회 (저장분 우선, KOBIS 장애 시 최근 저장분 대체)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoxOfficeService 단위 테스트")
+class BoxOfficeServiceTest {
+
+    @Mock
+    private KobisAdapter kobisAdapter;
+
+    @Mock
+    private BoxOfficeHistoryService boxOfficeHistoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoxOfficeService boxOfficeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        boxOfficeService = new BoxOfficeService(kobisAdapter, boxOfficeHistoryService,
+                new ConcurrentMapCacheManager(), meterRegistry, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxOfficeService.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 조회는 KOBIS 결과를 기다리고, 이후에는 메모리 결과 반환")
+    void 첫_조회_후_캐시() {
+        // given
+        DailyBoxOfficeResultDto result = result("2025-01-01");
+        given(kobisAdapter.getDailyBoxOffice(anyString())).willReturn(result);
+
+        // when & then
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(result);
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(result);
+        verify(kobisAdapter, times(1)).getDailyBoxOffice(anyString());
+    }
+
+    @Test
+    @DisplayName("만료 후 동시 요청 - 이전 결과를 바로 반환하고 KOBIS 호출은 1회")
+    void 만료_후_single_flight() throws Exception {
+        // given
+        DailyBoxOfficeResultDto old = result("2025-01-01");
+        DailyBoxOfficeResultDto fresh = result("2025-01-02");
+        CountDownLatch release = new CountDownLatch(1);
+        given(kobisAdapter.getDailyBoxOffice(anyString()))
+                .willReturn(old)
+                .willAnswer(invocation -> {
+                    release.await();
+                    return fresh;
+                });
+        boxOfficeService.getDailyBoxOffice();
+        boxOfficeService.invalidate();
+
+        // when
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<DailyBoxOfficeResultDto>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(pool.submit(boxOfficeService::getDailyBoxOffice));
+        }
+        for (Future<DailyBoxOfficeResultDto> future : futures) {
+            assertThat(future.get(1, TimeUnit.SECONDS)).isSameAs(old);
+        }
+        pool.shutdown();
+        assertThat(meterRegistry.counter("boxoffice.cache.stale.served").count()).isEqualTo(50);
+        release.countDown();
+
+        // then
+        verify(kobisAdapter, timeout(1000).times(2)).getDailyBoxOffice(anyString());
+        awaitResult(fresh);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 이전 결과를 계속 반환")
+    void 갱신_실패_시_이전_결과_유지() throws Exception {
+        // given
+        DailyBoxOfficeResultDto old = result("2025-01-01");
+        given(kobisAdapter.getDailyBoxOffice(anyString()))
+                .willReturn(old)
+                .willThrow(new KobisApiException("박스오피스 조회 실패"));
+        boxOfficeService.getDailyBoxOffice();
+        boxOfficeService.invalidate();
+
+        // when
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(old);
+        verify(kobisAdapter, timeout(1000).times(2)).getDailyBoxOffice(anyString());
+        Thread.sleep(50);
+
+        // then (재시도 대기 중에는 KOBIS 호출 없이 이전 결과 반환)
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(old);
+        assertThat(boxOfficeService.getStats()).containsEntry("refreshFailures", 1L);
+        verify(kobisAdapter, times(2)).getDailyBoxOffice(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 결과와 저장분이 모두 없을 때 KOBIS 실패 시 예외 전달")
+    void 첫_조회_실패() {
+        given(kobisAdapter.getDailyBoxOffice(anyString())).willThrow(new KobisApiException("박스오피스 조회 실패"));
+        given(boxOfficeHistoryService.findLatest()).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> boxOfficeService.getDailyBoxOffice())
+                .isInstanceOf(KobisApiException.class);
+    }
+
+    @Test
+    @DisplayName("첫 조회부터 KOBIS 실패 시 가장 최근 저장분 반환")
+    void 첫_조회_실패_저장분_대체() {
+        // given
+        DailyBoxOfficeResultDto stored = result("2024-12-31");
+        given(kobisAdapter.getDailyBoxOffice(anyString())).willThrow(new KobisApiException("박스오피스 조회 실패"));
+        given(boxOfficeHistoryService.findLatest()).willReturn(Optional.of(stored));
+
+        // when & then (재시도 대기 중에는 KOBIS 호출 없이 저장분 반환)
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(stored);
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(stored);
+        verify(kobisAdapter, times(1)).getDailyBoxOffice(anyString());
+    }
+
+    @Test
+    @DisplayName("지정 날짜 - 저장분이 있으면 KOBIS 호출 없음, 없으면 조회 후 저장")
+    void 지정_날짜_조회() {
+        // given
+        LocalDate saved = LocalDate.of(2025, 1, 1);
+        LocalDate notSaved = LocalDate.of(2025, 1, 2);
+        DailyBoxOfficeResultDto stored = result("2025-01-01");
+        DailyBoxOfficeResultDto fetched = result("2025-01-02");
+        given(boxOfficeHistoryService.find(saved)).willReturn(Optional.of(stored));
+        given(boxOfficeHistoryService.find(notSaved)).willReturn(Optional.empty());
+        given(kobisAdapter.getDailyBoxOffice("20250102")).willReturn(fetched);
+
+        // when & then
+        assertThat(boxOfficeService.getDailyBoxOffice(saved)).isSameAs(stored);
+        assertThat(boxOfficeService.getDailyBoxOffice(notSaved)).isSameAs(fetched);
+        verify(kobisAdapter, times(1)).getDailyBoxOffice(anyString());
+        verify(boxOfficeHistoryService).save(fetched);
+    }
+
+    @Test
+    @DisplayName("지정 날짜 - KOBIS 장애 시 가장 최근 저장분 반환")
+    void 지정_날짜_KOBIS_장애() {
+        // given
+        DailyBoxOfficeResultDto latestStored = result("2024-12-31");
+        given(boxOfficeHistoryService.find(any())).willReturn(Optional.empty());
+        given(kobisAdapter.getDailyBoxOffice(anyString())).willThrow(new KobisApiException("박스오피스 조회 실패"));
+        given(boxOfficeHistoryService.findLatest()).willReturn(Optional.of(latestStored));
+
+        // when & then
+        assertThat(boxOfficeService.getDailyBoxOffice(LocalDate.of(2025, 1, 2))).isSameAs(latestStored);
+    }
+
+    private void awaitResult(DailyBoxOfficeResultDto expected) throws InterruptedException {
+        for (int i = 0; i < 100 && boxOfficeService.getDailyBoxOffice() != expected; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(boxOfficeService.getDailyBoxOffice()).isSameAs(expected);
+    }
+
+    private DailyBoxOfficeResultDto result(String showRange) {
+        return DailyBoxOfficeResultDto.builder()
+                .boxOfficeType("일별 박스오피스")
+                .showRange(showRange)
+                .dailyBoxOfficeList(List.of())
+                .build();
+    }
+}
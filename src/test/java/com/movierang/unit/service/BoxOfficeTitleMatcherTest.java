@@ -0,0 +1,146 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.boxoffice.BoxOfficeItemDto;
+import com.movierang.entity.MovieEntity;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import com.movierang.service.BoxOfficeTitleMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoxOfficeTitleMatcher 단위 테스트
+ * - 정규화 키 매칭, 기타 제명 매칭, 개봉연도 선택, DB 대체 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoxOfficeTitleMatcher 단위 테스트")
+class BoxOfficeTitleMatcherTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private BoxOfficeTitleMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new BoxOfficeTitleMatcher(movieRepository);
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "극장판 귀멸의 칼날: 무한성편", null, "20250822"),
+                row(2L, "라이온 킹", null, "19940702"),
+                row(3L, "라이온 킹", null, "20190717"),
+                row(4L, "F1 더 무비", "F1^에프원 더 무비", "20250625")
+        ));
+        matcher.rebuild();
+    }
+
+    @Test
+    @DisplayName("공백/문장부호가 달라도 메모리에서 매칭 (DB 조회 없음)")
+    void 정규화_매칭() {
+        // when
+        Map<String, Long> result = matcher.match(List.of(
+                item("극장판 귀멸의 칼날 : 무한성편", "2025-08-22"),
+                item("에프원  더무비", "2025-06-25")
+        ));
+
+        // then
+        assertThat(result).containsEntry("극장판 귀멸의 칼날 : 무한성편", 1L)
+                .containsEntry("에프원  더무비", 4L);
+        verify(movieRepository, never()).findByTitleEtcContaining(anyString());
+        assertThat(matcher.getStats()).containsEntry("titleHits", 1L).containsEntry("aliasHits", 1L);
+    }
+
+    @Test
+    @DisplayName("같은 제목이 여러 편이면 KOBIS 개봉연도와 가장 가까운 영화 선택")
+    void 개봉연도_선택() {
+        assertThat(matcher.match(List.of(item("라이온 킹", "2019-07-17")))).containsEntry("라이온 킹", 3L);
+        assertThat(matcher.match(List.of(item("라이온 킹", "1994-07-02")))).containsEntry("라이온 킹", 2L);
+    }
+
+    @Test
+    @DisplayName("메모리 미스는 DB로 한 번만 조회하고 결과를 캐시")
+    void DB_대체_후_캐시() {
+        // given
+        given(movieRepository.findByTitleEtcContaining("좀비딸")).willReturn(List.of(
+                MovieEntity.builder().id(5L).title("좀비딸 (The Zombie Daughter)").repRlsDate("20250730").build()
+        ));
+
+        // when
+        matcher.match(List.of(item("좀비딸", "2025-07-30")));
+        Map<String, Long> second = matcher.match(List.of(item("좀비딸", "2025-07-30")));
+
+        // then
+        assertThat(second).containsEntry("좀비딸", 5L);
+        verify(movieRepository, times(1)).findByTitleEtcContaining("좀비딸");
+        assertThat(matcher.getStats()).containsEntry("dbFallbackHits", 1L).containsEntry("aliasHits", 1L);
+    }
+
+    @Test
+    @DisplayName("DB에도 없으면 결과에서 제외")
+    void 매칭_실패() {
+        given(movieRepository.findByTitleEtcContaining(anyString())).willReturn(List.of());
+
+        assertThat(matcher.match(List.of(item("없는 영화", "2025-01-01")))).isEmpty();
+        assertThat(matcher.getStats()).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 DB 제목 일치를 한 번에 조회하고, 없는 제목만 기타 제명으로 조회")
+    void 색인_준비_전_제목_일치() {
+        // given - rebuild 전 (또는 실패)
+        BoxOfficeTitleMatcher notReady = new BoxOfficeTitleMatcher(movieRepository);
+        given(movieRepository.findByTitleIn(List.of("파묘", "좀비딸"))).willReturn(List.of(
+                MovieEntity.builder().id(10L).title("파묘").repRlsDate("20240222").build()
+        ));
+        given(movieRepository.findByTitleEtcContaining("좀비딸")).willReturn(List.of(
+                MovieEntity.builder().id(5L).title("좀비딸 (The Zombie Daughter)").repRlsDate("20250730").build()
+        ));
+
+        // when
+        Map<String, Long> result = notReady.match(List.of(
+                item("파묘", "2024-02-22"),
+                item("좀비딸", "2025-07-30")
+        ));
+
+        // then - 제목이 일치하는 영화는 다른 영화의 기타 제명보다 우선
+        assertThat(result).containsEntry("파묘", 10L).containsEntry("좀비딸", 5L);
+        verify(movieRepository, times(1)).findByTitleIn(anyList());
+        verify(movieRepository, never()).findByTitleEtcContaining("파묘");
+        assertThat(notReady.getStats()).containsEntry("ready", false)
+                .containsEntry("dbTitleHits", 1L)
+                .containsEntry("dbFallbackHits", 1L);
+    }
+
+    private BoxOfficeItemDto item(String title, String openDt) {
+        return BoxOfficeItemDto.builder()
+                .title(title)
+                .openDt(LocalDate.parse(openDt))
+                .build();
+    }
+
+    private MovieTitleRow row(Long id, String title, String titleEtc, String repRlsDate) {
+        return new MovieTitleRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getTitleEng() { return null; }
+            @Override public String getTitleOrg() { return null; }
+            @Override public String getTitleEtc() { return titleEtc; }
+            @Override public String getRepRlsDate() { return repRlsDate; }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.movierang.unit.service;
+
+import com.movierang.service.DocIdMembership;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DocIdMembership 단위 테스트
+ * - 추가한 docId 는 항상 "있을 수 있음", 없는 docId 의 오탐률은 설정값 근처
+ */
+@DisplayName("DocIdMembership 단위 테스트")
+class DocIdMembershipTest {
+
+    @Test
+    @DisplayName("추가한 docId 는 누락 없이 있을 수 있음으로 판정")
+    void 누락_없음() {
+        DocIdMembership membership = new DocIdMembership(50_000);
+        IntStream.range(0, 50_000).forEach(i -> membership.add("F" + i));
+
+        assertThat(IntStream.range(0, 50_000).allMatch(i -> membership.mightContain("F" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("없는 docId 의 오탐률은 설정값(1%) 근처")
+    void 오탐률() {
+        DocIdMembership membership = new DocIdMembership(50_000);
+        IntStream.range(0, 50_000).forEach(i -> membership.add("F" + i));
+
+        long falsePositives = IntStream.range(0, 20_000)
+                .filter(i -> membership.mightContain("K" + i))
+                .count();
+
+        assertThat(falsePositives / 20_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("페이지 docId 를 새 영화 / 있을 수 있음으로 분리하고 통계 집계")
+    void 분리_통계() {
+        DocIdMembership membership = new DocIdMembership(1_000);
+        membership.add("F001");
+        membership.add("F002");
+
+        Set<String> maybe = membership.maybeExisting(List.of("F001", "F002", "F003"));
+        membership.verified(maybe.size(), 2);
+
+        assertThat(maybe).contains("F001", "F002");
+        Map<String, Object> stats = membership.getStats();
+        assertThat(stats).containsEntry("docIds", 2)
+                .containsEntry("maybeExisting", (long) maybe.size())
+                .containsEntry("definitelyNew", 3L - maybe.size())
+                .containsEntry("falsePositives", maybe.size() - 2L);
+    }
+}
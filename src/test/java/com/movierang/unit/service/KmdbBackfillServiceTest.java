@@ -0,0 +1,130 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
+import com.movierang.exception.BadRequestException;
+import com.movierang.exception.KmdbApiException;
+import com.movierang.external.adapter.KmdbAdapter;
+import com.movierang.service.KmdbBackfillService;
+import com.movierang.service.MovieSyncService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KmdbBackfillService 단위 테스트
+ * - 개봉월 단위 구간 분할, 구간 재시도/실패 기록, 진행 상황 합산, 범위 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KmdbBackfillService 단위 테스트")
+class KmdbBackfillServiceTest {
+
+    @Mock
+    private KmdbAdapter kmdbAdapter;
+
+    @Mock
+    private MovieSyncService movieSyncService;
+
+    private KmdbBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new KmdbBackfillService(kmdbAdapter, movieSyncService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backfillService.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 해를 12개월 구간으로 나눠 저장, 실패한 구간은 재시도 후 기록")
+    void 월별_구간_백필() throws Exception {
+        // given - 1월은 두 페이지, 3월은 한 번 실패 후 성공, 6월은 계속 실패
+        AtomicInteger marchCalls = new AtomicInteger();
+        given(movieSyncService.savePage(any(), anyInt(), anyInt(), anyList(), any(), any())).willAnswer(invocation -> {
+            List<KmdbMovieDto> movies = invocation.getArgument(3);
+            return new MovieSaveResult(movies.size(), 0, 0, 0);
+        });
+        given(kmdbAdapter.searchMovies(anyString(), anyString(), anyInt(), anyInt())).willAnswer(invocation -> {
+            String dts = invocation.getArgument(0);
+            int startCount = invocation.getArgument(3);
+            return switch (dts) {
+                case "20240101" -> movies(dts, startCount == 0 ? 500 : 10);
+                case "20240301" -> {
+                    if (marchCalls.getAndIncrement() == 0) {
+                        throw new KmdbApiException("KMDB 조회 실패");
+                    }
+                    yield movies(dts, 1);
+                }
+                case "20240601" -> throw new KmdbApiException("KMDB 조회 실패");
+                default -> movies(dts, 1);
+            };
+        });
+
+        // when
+        backfillService.start(2024, 2024, 4);
+        Map<String, Object> progress = awaitFinished();
+
+        // then
+        assertThat(progress).containsEntry("status", "COMPLETED")
+                .containsEntry("totalPartitions", 12)
+                .containsEntry("completedPartitions", 11)
+                .containsEntry("failedPartitions", 1)
+                .containsEntry("failedMonths", List.of("202406"))
+                .containsEntry("partitionRetries", 3)
+                .containsEntry("savedPages", 12)
+                .containsEntry("savedRows", 520L)
+                .containsEntry("runningPartitions", 0);
+        verify(kmdbAdapter).searchMovies("20240201", "20240229", 500, 0);
+        verify(movieSyncService, times(3)).finishCheckpoint(argThat(range -> range.getReleaseDts().equals("20240601")),
+                eq("FAILED"), anyString());
+    }
+
+    @Test
+    @DisplayName("잘못된 연도 범위는 거부")
+    void 범위_검증() {
+        assertThatThrownBy(() -> backfillService.start(2024, 2020, 4))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> backfillService.start(1900, 2024, 4))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Map<String, Object> awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> progress = backfillService.getProgress().orElseThrow();
+            if (!"RUNNING".equals(progress.get("status"))) {
+                return progress;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("백필이 끝나지 않았습니다");
+    }
+
+    private List<KmdbMovieDto> movies(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> KmdbMovieDto.builder().docId(prefix + "-" + i).title("영화 " + i).build())
+                .toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.entity.SyncCheckpoint;
+import com.movierang.entity.SyncWatermark;
+import com.movierang.repository.SyncCheckpointRepository;
+import com.movierang.repository.SyncWatermarkRepository;
+import com.movierang.service.KmdbIncrementalSyncService;
+import com.movierang.service.KmdbSyncService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KmdbIncrementalSyncService 단위 테스트
+ * - 기준점 유무/전체 조회 주기에 따른 조회 범위, 실패 시 기준점 유지, 중단된 증분 범위 이어서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KmdbIncrementalSyncService 단위 테스트")
+class KmdbIncrementalSyncServiceTest {
+
+    @InjectMocks
+    private KmdbIncrementalSyncService kmdbIncrementalSyncService;
+
+    @Mock
+    private KmdbSyncService kmdbSyncService;
+
+    @Mock
+    private SyncWatermarkRepository syncWatermarkRepository;
+
+    @Mock
+    private SyncCheckpointRepository syncCheckpointRepository;
+
+    @Test
+    @DisplayName("기준점이 없으면 올해 전체 조회 후 기준점 저장")
+    void 기준점_없으면_전체_조회() {
+        // given
+        given(syncWatermarkRepository.findById(KmdbIncrementalSyncService.WATERMARK)).willReturn(Optional.empty());
+        givenReport("20240301", false, 5000);
+
+        // when
+        kmdbIncrementalSyncService.run(false);
+
+        // then
+        KmdbSyncRange range = syncedRange();
+        int year = LocalDate.now().getYear();
+        assertThat(range.isIncremental()).isFalse();
+        assertThat(range.getReleaseDts()).isEqualTo(year + "0101");
+        assertThat(range.getReleaseDte()).isEqualTo(year + "1231");
+
+        SyncWatermark saved = savedWatermark();
+        assertThat(saved.getLastModDate()).isEqualTo("20240301");
+        assertThat(saved.getLastFullScanAt()).isNotNull();
+        assertThat(saved.getLastFullScanRows()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("최근 전체 조회가 있으면 마지막 수정일(하루 겹침)부터 수정일 기준 조회")
+    void 증분_조회() {
+        // given
+        SyncWatermark watermark = SyncWatermark.of(KmdbIncrementalSyncService.WATERMARK);
+        watermark.fullScan("20240110", 5000, 120.0, LocalDateTime.now().minusDays(1));
+        given(syncWatermarkRepository.findById(KmdbIncrementalSyncService.WATERMARK)).willReturn(Optional.of(watermark));
+        givenReport("20240112", false, 40);
+
+        // when
+        Map<String, Object> result = kmdbIncrementalSyncService.run(false);
+
+        // then
+        KmdbSyncRange range = syncedRange();
+        assertThat(range.isIncremental()).isTrue();
+        assertThat(range.getUpdateDts()).isEqualTo("20240109");
+        assertThat(range.getUpdateDte()).isEqualTo(LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
+
+        assertThat(savedWatermark().getLastModDate()).isEqualTo("20240112");
+        assertThat(result).containsEntry("lastMode", "INCREMENTAL")
+                .containsEntry("rowsSaved", 4960L);
+    }
+
+    @Test
+    @DisplayName("실패한 페이지가 있으면 기준점을 옮기지 않음")
+    void 실패시_기준점_유지() {
+        // given
+        SyncWatermark watermark = SyncWatermark.of(KmdbIncrementalSyncService.WATERMARK);
+        watermark.fullScan("20240110", 5000, 120.0, LocalDateTime.now().minusDays(1));
+        given(syncWatermarkRepository.findById(KmdbIncrementalSyncService.WATERMARK)).willReturn(Optional.of(watermark));
+        givenReport("20240112", true, 20);
+
+        // when
+        kmdbIncrementalSyncService.run(false);
+
+        // then
+        SyncWatermark saved = savedWatermark();
+        assertThat(saved.getLastModDate()).isEqualTo("20240110");
+        assertThat(saved.getLastMode()).isEqualTo("INCREMENTAL_PARTIAL");
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 증분 체크포인트가 있으면 새 범위 대신 그 범위를 이어서 조회")
+    void 중단된_증분_범위_이어서() {
+        // given
+        SyncWatermark watermark = SyncWatermark.of(KmdbIncrementalSyncService.WATERMARK);
+        watermark.fullScan("20240110", 5000, 120.0, LocalDateTime.now().minusDays(1));
+        given(syncWatermarkRepository.findById(KmdbIncrementalSyncService.WATERMARK)).willReturn(Optional.of(watermark));
+        SyncCheckpoint checkpoint = SyncCheckpoint.start("update:20240109-20240111", 500);
+        checkpoint.finish("FAILED", "timeout");
+        given(syncCheckpointRepository.findFirstByRangeKeyStartingWithAndStatusNotOrderByUpdatedAtDesc("update:", "COMPLETED"))
+                .willReturn(Optional.of(checkpoint));
+        givenReport("20240111", false, 30);
+
+        // when
+        kmdbIncrementalSyncService.run(false);
+
+        // then
+        KmdbSyncRange range = syncedRange();
+        assertThat(range.key()).isEqualTo("update:20240109-20240111");
+        assertThat(savedWatermark().getLastModDate()).isEqualTo("20240111");
+    }
+
+    private void givenReport(String maxModDate, boolean failedPages, long rows) {
+        KmdbSyncService.SyncReport report = mock(KmdbSyncService.SyncReport.class);
+        given(report.getMaxModDate()).willReturn(Optional.of(maxModDate));
+        given(report.hasFailedPages()).willReturn(failedPages);
+        given(report.getRows()).willReturn(rows);
+        given(report.elapsedSeconds()).willReturn(3.0);
+        given(report.toMap()).willReturn(Map.of());
+        given(kmdbSyncService.sync(any(KmdbSyncRange.class), anyInt())).willReturn(report);
+    }
+
+    private KmdbSyncRange syncedRange() {
+        ArgumentCaptor<KmdbSyncRange> captor = ArgumentCaptor.forClass(KmdbSyncRange.class);
+        verify(kmdbSyncService).sync(captor.capture(), anyInt());
+        return captor.getValue();
+    }
+
+    private SyncWatermark savedWatermark() {
+        ArgumentCaptor<SyncWatermark> captor = ArgumentCaptor.forClass(SyncWatermark.class);
+        verify(syncWatermarkRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,195 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.kmdb.KmdbMovieDto;
+import com.movierang.dto.movie.kmdb.MovieSaveResult;
+import com.movierang.exception.KmdbApiException;
+import com.movierang.external.adapter.KmdbAdapter;
+import com.movierang.external.kmdb.KmdbApiClient;
+import com.movierang.external.kmdb.KmdbRequest;
+import com.movierang.mapper.KmdbMovieMapper;
+import com.movierang.service.KmdbSyncService;
+import com.movierang.service.MovieSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KmdbSyncService 단위 테스트
+ * - 전체 건수 기반 페이지 병렬 조회, 저장 순서 유지, 실패 페이지 기록, 체크포인트 재개, 단계별 통계
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KmdbSyncService 단위 테스트")
+class KmdbSyncServiceTest {
+    private static final String DTS = "20240101";
+    private static final String DTE = "20241231";
+
+    @Mock
+    private KmdbApiClient kmdbApiClient;
+
+    @Mock
+    private MovieSyncService movieSyncService;
+
+    private KmdbSyncService kmdbSyncService;
+
+    @BeforeEach
+    void setUp() {
+        KmdbAdapter kmdbAdapter = new KmdbAdapter(kmdbApiClient, new KmdbMovieMapper());
+        kmdbSyncService = new KmdbSyncService(kmdbAdapter, movieSyncService);
+        given(movieSyncService.savePage(any(), anyInt(), anyInt(), anyList(), any(), any())).willAnswer(invocation -> {
+            List<KmdbMovieDto> movies = invocation.getArgument(3);
+            return new MovieSaveResult(movies.size(), 0, 0, 0);
+        });
+    }
+
+    @Test
+    @DisplayName("나중 페이지가 먼저 도착해도 페이지 순서대로 저장")
+    void 페이지_순서대로_저장() {
+        // given - 전체 1,200건 → 3페이지, 두 번째 페이지가 가장 늦게 도착
+        given(kmdbApiClient.searchMoviesRawAsync(any(KmdbRequest.class))).willAnswer(invocation -> {
+            KmdbRequest req = invocation.getArgument(0);
+            return switch (req.getStartCount()) {
+                case 0 -> Mono.just(page(1200, "A", 500));
+                case 500 -> Mono.just(page(1200, "B", 500)).delayElement(Duration.ofMillis(200));
+                default -> Mono.just(page(1200, "C", 200));
+            };
+        });
+
+        // when
+        KmdbSyncService.SyncReport report = kmdbSyncService.sync(DTS, DTE, 4);
+
+        // then
+        assertThat(savedPrefixes(3)).containsExactly("A", "B", "C");
+
+        Map<String, Object> map = report.toMap();
+        assertThat(map).containsEntry("status", "COMPLETED")
+                .containsEntry("totalCount", 1200)
+                .containsEntry("totalPages", 3)
+                .containsEntry("savedPages", 3)
+                .containsEntry("savedRows", 1200L)
+                .containsEntry("insertedMovies", 1200L)
+                .containsEntry("failedStartCounts", List.of());
+        assertThat(report.rowsPerSecond()).isPositive();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) map.get("stages");
+        assertThat(stages.get("fetch")).containsEntry("inFlight", 0).containsEntry("pages", 3);
+        assertThat(stages.get("decode")).containsEntry("queued", 0).containsEntry("rows", 1200L);
+        assertThat(stages.get("write")).containsEntry("queued", 0).containsEntry("pages", 3);
+    }
+
+    @Test
+    @DisplayName("실패한 페이지는 재시도 후 기록하고 나머지는 계속 저장")
+    void 실패_페이지_기록() {
+        // given
+        given(kmdbApiClient.searchMoviesRawAsync(any(KmdbRequest.class))).willAnswer(invocation -> {
+            KmdbRequest req = invocation.getArgument(0);
+            return switch (req.getStartCount()) {
+                case 0 -> Mono.just(page(1010, "A", 500));
+                case 500 -> Mono.error(new KmdbApiException("KMDB 조회 실패"));
+                default -> Mono.just(page(1010, "C", 10));
+            };
+        });
+
+        // when
+        KmdbSyncService.SyncReport report = kmdbSyncService.sync(DTS, DTE, 2);
+
+        // then
+        assertThat(savedPrefixes(2)).containsExactly("A", "C");
+        assertThat(report.toMap()).containsEntry("savedPages", 2)
+                .containsEntry("savedRows", 510L)
+                .containsEntry("failedStartCounts", List.of(500));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 커밋된 페이지는 건너뛰고 이어서 조회")
+    void 체크포인트_이어서_조회() {
+        // given - 전체 1,200건 중 첫 페이지(0~499)는 이전 실행에서 커밋됨
+        given(movieSyncService.beginCheckpoint(any(), anyInt())).willReturn(500);
+        given(kmdbApiClient.searchMoviesRawAsync(any(KmdbRequest.class))).willAnswer(invocation -> {
+            KmdbRequest req = invocation.getArgument(0);
+            return switch (req.getStartCount()) {
+                case 500 -> Mono.just(page(1200, "B", 500));
+                case 1000 -> Mono.just(page(1200, "C", 200));
+                default -> Mono.error(new IllegalStateException("커밋된 페이지 재조회: " + req.getStartCount()));
+            };
+        });
+
+        // when
+        KmdbSyncService.SyncReport report = kmdbSyncService.sync(DTS, DTE, 2);
+
+        // then
+        assertThat(savedPrefixes(2)).containsExactly("B", "C");
+        assertThat(report.toMap()).containsEntry("status", "COMPLETED")
+                .containsEntry("resumedFromStartCount", 500)
+                .containsEntry("savedRows", 700L);
+        verify(movieSyncService).finishCheckpoint(any(), eq("COMPLETED"), isNull());
+    }
+
+    @Test
+    @DisplayName("5페이지 중 2페이지만 실패한 기간은 다시 실행할 때 2페이지만 조회")
+    void 실패한_페이지만_재조회() {
+        // given - 이전 실행에서 2페이지(startCount=500)만 실패하고 3~5페이지는 커밋됨
+        given(movieSyncService.beginCheckpoint(any(), anyInt())).willReturn(500);
+        given(movieSyncService.getCommittedAhead(any())).willReturn(Set.of(1000, 1500, 2000));
+        given(kmdbApiClient.searchMoviesRawAsync(any(KmdbRequest.class))).willAnswer(invocation -> {
+            KmdbRequest req = invocation.getArgument(0);
+            return req.getStartCount() == 500
+                    ? Mono.just(page(2300, "B", 500))
+                    : Mono.error(new IllegalStateException("커밋된 페이지 재조회: " + req.getStartCount()));
+        });
+
+        // when
+        KmdbSyncService.SyncReport report = kmdbSyncService.sync(DTS, DTE, 4);
+
+        // then
+        assertThat(savedPrefixes(1)).containsExactly("B");
+        verify(kmdbApiClient, times(1)).searchMoviesRawAsync(any(KmdbRequest.class));
+        assertThat(report.toMap()).containsEntry("status", "COMPLETED")
+                .containsEntry("totalPages", 5)
+                .containsEntry("skippedCommittedPages", 3)
+                .containsEntry("failedPages", 0);
+        verify(movieSyncService).finishCheckpoint(any(), eq("COMPLETED"), isNull());
+    }
+
+    // 저장된 페이지별 docId 접두어 (저장 순서)
+    private List<String> savedPrefixes(int pages) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KmdbMovieDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(movieSyncService, times(pages)).savePage(any(), anyInt(), anyInt(), captor.capture(), any(), any());
+        return captor.getAllValues().stream()
+                .map(movies -> movies.get(0).getDocId().substring(0, 1))
+                .toList();
+    }
+
+    private byte[] page(int totalCount, String prefix, int count) {
+        String results = IntStream.range(0, count)
+                .mapToObj(i -> "{\"DOCID\": \"" + prefix + i + "\", \"title\": \"영화 " + prefix + i + "\"}")
+                .collect(Collectors.joining(","));
+        return ("{\"TotalCount\": " + totalCount + ", \"Data\": [{\"CollName\": \"kmdb_new2\", \"TotalCount\": "
+                + totalCount + ", \"Count\": " + count + ", \"Result\": [" + results + "]}]}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.movierang.unit.service;
+
+import com.movierang.entity.KobisMovieMapping;
+import com.movierang.exception.MovieNotFoundException;
+import com.movierang.repository.KobisMovieMappingRepository;
+import com.movierang.repository.MovieRepository;
+import com.movierang.service.KobisMovieMappingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KobisMovieMappingService 단위 테스트
+ * - 매칭 결과 저장 시 관리자 수정 매핑 보존, 관리자 수정 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KobisMovieMappingService 단위 테스트")
+class KobisMovieMappingServiceTest {
+
+    @InjectMocks
+    private KobisMovieMappingService kobisMovieMappingService;
+
+    @Mock
+    private KobisMovieMappingRepository kobisMovieMappingRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Test
+    @DisplayName("새 movieCd 만 저장하고 관리자 수정 매핑은 덮어쓰지 않음")
+    @SuppressWarnings("unchecked")
+    void 매칭_결과_저장() {
+        // given
+        KobisMovieMapping manual = KobisMovieMapping.matched("20240001", 10L);
+        manual.remap(11L);
+        given(kobisMovieMappingRepository.findAllById(any())).willReturn(List.of(manual));
+
+        // when
+        kobisMovieMappingService.saveMatches(Map.of("20240001", 99L, "20240002", 20L));
+
+        // then
+        ArgumentCaptor<List<KobisMovieMapping>> captor = ArgumentCaptor.forClass(List.class);
+        verify(kobisMovieMappingRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(KobisMovieMapping::getMovieCd).containsExactly("20240002");
+        assertThat(manual.getMovieId()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("관리자 수정 - 기존 매핑을 수동 매핑으로 변경")
+    void 관리자_수정() {
+        // given
+        KobisMovieMapping mapping = KobisMovieMapping.matched("20240001", 10L);
+        given(movieRepository.existsById(11L)).willReturn(true);
+        given(kobisMovieMappingRepository.findById("20240001")).willReturn(Optional.of(mapping));
+        given(kobisMovieMappingRepository.save(mapping)).willReturn(mapping);
+
+        // when
+        KobisMovieMapping result = kobisMovieMappingService.fix("20240001", 11L);
+
+        // then
+        assertThat(result.getMovieId()).isEqualTo(11L);
+        assertThat(result.isManual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("관리자 수정 - 없는 영화 ID면 예외")
+    void 관리자_수정_영화_없음() {
+        given(movieRepository.existsById(999L)).willReturn(false);
+
+        assertThatThrownBy(() -> kobisMovieMappingService.fix("20240001", 999L))
+                .isInstanceOf(MovieNotFoundException.class);
+        verify(kobisMovieMappingRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,123 @@
+package com.movierang.unit.service;
+
+import com.movierang.entity.MovieEntity;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import com.movierang.service.MovieTitleIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * MovieTitleIndex 단위 테스트
+ * - n-gram 색인 검색, 정렬, 페이징 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovieTitleIndex 단위 테스트")
+class MovieTitleIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieTitleIndex(movieRepository);
+    }
+
+    @Test
+    @DisplayName("색인 구성 전에는 empty 반환 (DB 검색으로 대체)")
+    void 색인_구성_전_empty() {
+        assertThat(index.search("부산", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글/영문 부분 일치 검색 - 개봉일 내림차순")
+    void 부분_일치_검색() {
+        // given
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "부산행", "Train to Busan", "20160720"),
+                row(2L, "반도", "Peninsula", "20200715"),
+                row(3L, "부산 국제영화제", null, "20250700")
+        ));
+        index.rebuild();
+
+        // when & then
+        assertThat(index.search("부산", 0, 10).orElseThrow().getIds()).containsExactly(3L, 1L);
+        assertThat(index.search("BUSAN", 0, 10).orElseThrow().getIds()).containsExactly(1L);
+        assertThat(index.search("ninsu", 0, 10).orElseThrow().getIds()).containsExactly(2L);
+        assertThat(index.search("행", 0, 10).orElseThrow().getIds()).containsExactly(1L);
+        assertThat(index.search("없는제목", 0, 10).orElseThrow().getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("gram이 모두 있어도 연속 문자열이 아니면 제외")
+    void 오탐_제거() {
+        // given
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "abcxbcd", null, "20240101")
+        ));
+        index.rebuild();
+
+        // when & then ("abcd"의 3-gram abc, bcd 모두 존재하지만 연속되지 않음)
+        assertThat(index.search("abcd", 0, 10).orElseThrow().getIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이징 - 전체 건수와 페이지 ID 반환")
+    void 페이징() {
+        // given
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "영화 하나", null, "20240101"),
+                row(2L, "영화 둘", null, "20240102"),
+                row(3L, "영화 셋", null, "20240103")
+        ));
+        index.rebuild();
+
+        // when
+        MovieTitleIndex.SearchResult result = index.search("영화", 1, 1).orElseThrow();
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("신규/수정 영화 색인 반영")
+    void 신규_영화_색인() {
+        // given
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "기생충", "Parasite", "20190530")
+        ));
+        index.rebuild();
+
+        // when
+        index.index(MovieEntity.builder().id(2L).title("기생수").repRlsDate("20240405").build());
+        index.index(MovieEntity.builder().id(1L).title("기생충 흑백판").repRlsDate("20190530").build());
+
+        // then
+        assertThat(index.search("기생", 0, 10).orElseThrow().getIds()).containsExactly(2L, 1L);
+        assertThat(index.search("parasite", 0, 10).orElseThrow().getIds()).isEmpty();
+        assertThat(index.search("흑백", 0, 10).orElseThrow().getIds()).containsExactly(1L);
+    }
+
+    private MovieTitleRow row(Long id, String title, String titleEng, String repRlsDate) {
+        return new MovieTitleRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getTitleEng() { return titleEng; }
+            @Override public String getTitleOrg() { return null; }
+            @Override public String getTitleEtc() { return null; }
+            @Override public String getRepRlsDate() { return repRlsDate; }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.kmdb.KmdbSyncRange;
+import com.movierang.exception.BadRequestException;
+import com.movierang.service.KmdbSyncService;
+import com.movierang.service.SyncJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncJobService 단위 테스트
+ * - 작업 등록/완료, 같은/겹치는 기간 중복 작업 거절, 실행 중 취소
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncJobService 단위 테스트")
+class SyncJobServiceTest {
+    private static final KmdbSyncRange RANGE_2024 = KmdbSyncRange.released("20240101", "20241231");
+
+    @Mock
+    private KmdbSyncService kmdbSyncService;
+
+    private SyncJobService syncJobService;
+
+    @BeforeEach
+    void setUp() {
+        syncJobService = new SyncJobService(kmdbSyncService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 백그라운드에서 실행되고 결과 상태를 기록")
+    void 작업_실행() throws Exception {
+        // given
+        KmdbSyncService.SyncReport report = report(RANGE_2024);
+        given(kmdbSyncService.prepare(any(KmdbSyncRange.class), anyInt())).willReturn(report);
+        CountDownLatch done = new CountDownLatch(1);
+        given(kmdbSyncService.execute(report)).willAnswer(invocation -> {
+            done.countDown();
+            return report;
+        });
+
+        // when
+        String id = (String) syncJobService.submit(RANGE_2024, 4).get("id");
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(awaitStatus(id, "COMPLETED")).containsEntry("range", RANGE_2024.toString());
+    }
+
+    @Test
+    @DisplayName("같은 기간 작업이 실행 중이면 거절")
+    void 같은_기간_중복_거절() throws Exception {
+        // given - 첫 작업이 끝나지 않음
+        KmdbSyncService.SyncReport report = report(RANGE_2024);
+        given(kmdbSyncService.prepare(any(KmdbSyncRange.class), anyInt())).willReturn(report);
+        CountDownLatch release = new CountDownLatch(1);
+        given(kmdbSyncService.execute(report)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return report;
+        });
+        syncJobService.submit(RANGE_2024, 4);
+
+        // when & then
+        assertThatThrownBy(() -> syncJobService.submit(RANGE_2024, 4))
+                .isInstanceOf(BadRequestException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("기간이 겹치는 작업(연도와 그 안의 월)은 거절, 겹치지 않는 기간은 등록")
+    void 겹치는_기간_거절() throws Exception {
+        // given - 2024년 작업이 끝나지 않음
+        KmdbSyncRange june = KmdbSyncRange.released("20240601", "20240630");
+        KmdbSyncRange range2023 = KmdbSyncRange.released("20230101", "20231231");
+        KmdbSyncService.SyncReport report = report(RANGE_2024);
+        KmdbSyncService.SyncReport report2023 = report(range2023);
+        given(kmdbSyncService.prepare(RANGE_2024, 4)).willReturn(report);
+        given(kmdbSyncService.prepare(range2023, 4)).willReturn(report2023);
+        CountDownLatch release = new CountDownLatch(1);
+        given(kmdbSyncService.execute(report)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return report;
+        });
+        given(kmdbSyncService.execute(report2023)).willReturn(report2023);
+        syncJobService.submit(RANGE_2024, 4);
+
+        // when & then
+        assertThatThrownBy(() -> syncJobService.submit(june, 4))
+                .isInstanceOf(BadRequestException.class);
+        String id = (String) syncJobService.submit(range2023, 4).get("id");
+        awaitStatus(id, "COMPLETED");
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업 취소 시 동기화에 중단 요청")
+    void 실행_중_취소() throws Exception {
+        // given
+        KmdbSyncService.SyncReport report = report(RANGE_2024);
+        given(kmdbSyncService.prepare(any(KmdbSyncRange.class), anyInt())).willReturn(report);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(report).cancel();
+        given(kmdbSyncService.execute(report)).willAnswer(invocation -> {
+            started.countDown();
+            cancelled.await(5, TimeUnit.SECONDS);
+            return report;
+        });
+        lenient().when(report.getStatus()).thenReturn("CANCELLED");
+        String id = (String) syncJobService.submit(RANGE_2024, 4).get("id");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        syncJobService.cancel(id);
+
+        // then
+        verify(report).cancel();
+        awaitStatus(id, "CANCELLED");
+    }
+
+    @Test
+    @DisplayName("없는 작업 조회/취소는 empty")
+    void 없는_작업() {
+        assertThat(syncJobService.get("nope")).isEmpty();
+        assertThat(syncJobService.cancel("nope")).isEmpty();
+    }
+
+    private KmdbSyncService.SyncReport report(KmdbSyncRange range) {
+        KmdbSyncService.SyncReport report = mock(KmdbSyncService.SyncReport.class);
+        lenient().when(report.getRange()).thenReturn(range);
+        lenient().when(report.getStatus()).thenReturn("COMPLETED");
+        lenient().when(report.toMap()).thenReturn(Map.of());
+        return report;
+    }
+
+    private Map<String, Object> awaitStatus(String id, String status) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> job = syncJobService.get(id).orElseThrow();
+            if (status.equals(job.get("status"))) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("작업 상태가 " + status + " 가 되지 않음: " + syncJobService.get(id));
+    }
+}
@@ -0,0 +1,172 @@
+package com.movierang.unit.service;
+
+import com.movierang.dto.movie.MovieAutocompleteDto;
+import com.movierang.entity.MovieEntity;
+import com.movierang.repository.MovieRepository;
+import com.movierang.repository.MovieStatsRepository;
+import com.movierang.repository.projection.MovieTitleRow;
+import com.movierang.repository.projection.MovieViewCountRow;
+import com.movierang.service.TitleAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * TitleAutocompleteIndex 단위 테스트
+ * - 초성/자모 접두어 검색, 조회수 랭킹 검증, 짧은 접두어 후보
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TitleAutocompleteIndex 단위 테스트")
+class TitleAutocompleteIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private MovieStatsRepository movieStatsRepository;
+
+    private TitleAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleAutocompleteIndex(movieRepository, movieStatsRepository);
+
+        given(movieRepository.findAllTitleRows()).willReturn(List.of(
+                row(1L, "부산행", "Train to Busan"),
+                row(2L, "부당거래", "The Unjust"),
+                row(3L, "택시 운전사", "A Taxi Driver")
+        ));
+        given(movieStatsRepository.findAllViewCounts()).willReturn(List.of(
+                viewCount(1L, 10L),
+                viewCount(2L, 50L)
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("초성 검색 - ㅂㅅㅎ → 부산행")
+    void 초성_검색() {
+        assertThat(ids(index.suggest("ㅂㅅㅎ", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("ㅂ", 10))).containsExactly(2L, 1L);  // 조회수 순
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자 검색 - 붓, 부사 → 부산행")
+    void 자모_접두어_검색() {
+        assertThat(ids(index.suggest("붓", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("부사", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("부", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치 / 영문 제목 검색")
+    void 단어_영문_검색() {
+        assertThat(ids(index.suggest("운전", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("ㅇㅈㅅ", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("TRAIN", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("taxi", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("조회수 갱신 및 신규 영화 반영")
+    void 조회수_신규_반영() {
+        // when
+        index.updateViewCount(1L, 100L);
+        index.index(MovieEntity.builder().id(4L).title("부산 2").repRlsDate("20250101").build());
+
+        // then
+        assertThat(ids(index.suggest("부", 3))).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("접두어 범위가 커도 사전순 뒤쪽의 인기 영화까지 랭킹")
+    void 넓은_접두어_랭킹() {
+        // given - "가" 로 시작하는 6,000편, 조회수가 가장 높은 영화는 사전순 마지막
+        List<MovieTitleRow> rows = new ArrayList<>();
+        for (long id = 100; id < 6100; id++) {
+            rows.add(row(id, String.format("가%05d", id), null));
+        }
+        given(movieRepository.findAllTitleRows()).willReturn(rows);
+        given(movieStatsRepository.findAllViewCounts()).willReturn(List.of(
+                viewCount(6099L, 900L),
+                viewCount(3000L, 500L),
+                viewCount(100L, 10L)
+        ));
+        index = new TitleAutocompleteIndex(movieRepository, movieStatsRepository);
+        index.rebuild();
+
+        // when
+        List<MovieAutocompleteDto> results = index.suggest("가", 3);
+
+        // then
+        assertThat(ids(results)).containsExactly(6099L, 3000L, 100L);
+        assertThat(results).extracting(MovieAutocompleteDto::getViewCount).containsExactly(900L, 500L, 10L);
+        assertThat(ids(index.suggest("ㄱ", 2))).containsExactly(6099L, 3000L);     // 짧은 초성 접두어
+        assertThat(ids(index.suggest("가060", 1))).containsExactly(6099L);          // 긴 접두어는 범위 탐색
+    }
+
+    @Test
+    @DisplayName("짧은 접두어는 미리 뽑아 둔 후보 안에서 현재 조회수로 다시 랭킹")
+    void 짧은_접두어_후보_랭킹() {
+        // given - 후보 수(100)보다 많은 영화
+        List<MovieTitleRow> rows = new ArrayList<>();
+        List<MovieViewCountRow> viewCounts = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            rows.add(row(id, String.format("나%03d", id), null));
+            viewCounts.add(viewCount(id, id));
+        }
+        given(movieRepository.findAllTitleRows()).willReturn(rows);
+        given(movieStatsRepository.findAllViewCounts()).willReturn(viewCounts);
+        index = new TitleAutocompleteIndex(movieRepository, movieStatsRepository);
+        index.rebuild();
+
+        // when - 후보 안의 영화 조회수가 바뀜
+        index.updateViewCount(250L, 1000L);
+
+        // then
+        assertThat(ids(index.suggest("나", 3))).containsExactly(250L, 300L, 299L);
+        assertThat(ids(index.suggest("ㄴ", 3))).containsExactly(250L, 300L, 299L);
+    }
+
+    @Test
+    @DisplayName("제목이 바뀐 영화는 옛 제목으로 검색되지 않음")
+    void 제목_변경() {
+        // when
+        index.index(MovieEntity.builder().id(2L).title("택배기사").repRlsDate("20240101").build());
+
+        // then
+        assertThat(ids(index.suggest("부", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("택", 10))).containsExactly(2L, 3L);
+    }
+
+    private List<Long> ids(List<MovieAutocompleteDto> results) {
+        return results.stream().map(MovieAutocompleteDto::getId).toList();
+    }
+
+    private MovieTitleRow row(Long id, String title, String titleEng) {
+        return new MovieTitleRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getTitleEng() { return titleEng; }
+            @Override public String getTitleOrg() { return null; }
+            @Override public String getTitleEtc() { return null; }
+            @Override public String getRepRlsDate() { return "20240101"; }
+        };
+    }
+
+    private MovieViewCountRow viewCount(Long movieId, Long count) {
+        return new MovieViewCountRow() {
+            @Override public Long getMovieId() { return movieId; }
+            @Override public Long getViewCount() { return count; }
+        };
+    }
+}
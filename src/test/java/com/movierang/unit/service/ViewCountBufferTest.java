@@ -0,0 +1,99 @@
+package com.movierang.unit.service;
+
+import com.movierang.repository.MovieStatsBulkRepository;
+import com.movierang.service.TitleAutocompleteIndex;
+import com.movierang.service.ViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ViewCountBuffer 단위 테스트
+ * - 동시 조회 누적, 영화별 증가분 일괄 반영, 반영 실패 시 증가분 보존
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountBuffer 단위 테스트")
+class ViewCountBufferTest {
+
+    @Mock
+    private MovieStatsBulkRepository movieStatsBulkRepository;
+
+    @Mock
+    private TitleAutocompleteIndex titleAutocompleteIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new ViewCountBuffer(movieStatsBulkRepository, titleAutocompleteIndex,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("동시 조회를 영화별 증가분으로 모아 한 번에 반영, 행이 없는 영화는 생성")
+    void 증가분_일괄_반영() throws InterruptedException {
+        // given - 1번 영화 1,000회(동시), 2번 영화 3회
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                viewCountBuffer.increment(1L);
+                done.countDown();
+            });
+        }
+        done.await();
+        executor.shutdown();
+        for (int i = 0; i < 3; i++) {
+            viewCountBuffer.increment(2L);
+        }
+        given(movieStatsBulkRepository.addViewCounts(Map.of(1L, 1000L, 2L, 3L))).willReturn(Set.of(2L));
+        given(movieStatsBulkRepository.insertViewCounts(Map.of(2L, 3L))).willReturn(Set.of());
+
+        // when
+        long flushed = viewCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1003);
+        assertThat(viewCountBuffer.pendingViews()).isZero();
+        assertThat(viewCountBuffer.flush()).isZero();   // 새 조회가 없으면 DB 호출 없음
+        verify(titleAutocompleteIndex).addViewCount(1L, 1000L);
+        verify(titleAutocompleteIndex).addViewCount(2L, 3L);
+        assertThat(viewCountBuffer.getStats()).containsEntry("flushedViews", 1003L)
+                .containsEntry("flushes", 1L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 버퍼에 되돌림")
+    void 반영_실패_보존() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        given(movieStatsBulkRepository.addViewCounts(anyMap())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> viewCountBuffer.flush()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(viewCountBuffer.pendingViews()).isEqualTo(2);
+        assertThat(viewCountBuffer.getStats()).containsEntry("failedFlushes", 1L);
+    }
+}
@@ -1,13 +1,13 @@
 package com.movierang.unit.service;
 
 import com.movierang.dto.wishlist.WishlistItemResponse;
-import com.movierang.entity.MovieEntity;
 import com.movierang.entity.MovieStats;
 import com.movierang.entity.Wishlist;
 import com.movierang.exception.MovieNotFoundException;
 import com.movierang.repository.MovieRepository;
 import com.movierang.repository.MovieStatsRepository;
 import com.movierang.repository.WishlistRepository;
+import com.movierang.repository.projection.MovieSummaryRow;
 import com.movierang.service.WishlistService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -171,12 +171,12 @@ class WishlistServiceTest {
             Wishlist wishlist2 = createWishlist(2L, userId, 200L);
             List<Wishlist> wishlists = List.of(wishlist1, wishlist2);
 
-            MovieEntity movie1 = createMovie(100L, "영화1", "poster1.jpg");
-            MovieEntity movie2 = createMovie(200L, "영화2", "poster2.jpg");
+            MovieSummaryRow movie1 = createMovie(100L, "영화1", "poster1.jpg");
+            MovieSummaryRow movie2 = createMovie(200L, "영화2", "poster2.jpg");
 
             given(wishlistRepository.findByUserIdOrderByCreatedAtDesc(userId))
                     .willReturn(wishlists);
-            given(movieRepository.findAllById(List.of(100L, 200L)))
+            given(movieRepository.findSummariesByIdIn(List.of(100L, 200L)))
                     .willReturn(List.of(movie1, movie2));
 
             // when
@@ -202,7 +202,7 @@ class WishlistServiceTest {
 
             // then
             assertThat(result).isEmpty();
-            verify(movieRepository, never()).findAllById(any());
+            verify(movieRepository, never()).findSummariesByIdIn(any());
         }
 
         @Test
@@ -215,12 +215,12 @@ class WishlistServiceTest {
             Wishlist wishlist2 = createWishlist(2L, userId, 200L);  // 삭제된 영화
             List<Wishlist> wishlists = List.of(wishlist1, wishlist2);
 
-            MovieEntity movie1 = createMovie(100L, "영화1", "poster1.jpg");
+            MovieSummaryRow movie1 = createMovie(100L, "영화1", "poster1.jpg");
             // movie2는 DB에 없음 (삭제됨)
 
             given(wishlistRepository.findByUserIdOrderByCreatedAtDesc(userId))
                     .willReturn(wishlists);
-            given(movieRepository.findAllById(List.of(100L, 200L)))
+            given(movieRepository.findSummariesByIdIn(List.of(100L, 200L)))
                     .willReturn(List.of(movie1));  // movie1만 반환
 
             // when
@@ -240,13 +240,14 @@ class WishlistServiceTest {
                 .build();
     }
 
-    private MovieEntity createMovie(Long id, String title, String poster) {
-        return MovieEntity.builder()
-                .id(id)
-                .title(title)
-                .poster(poster)
-                .genre("액션")
-                .repRlsDate("20240101")
-                .build();
+    private MovieSummaryRow createMovie(Long id, String title, String poster) {
+        return new MovieSummaryRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getGenre() { return "액션"; }
+            @Override public String getPoster() { return poster; }
+            @Override public String getRating() { return null; }
+            @Override public String getRepRlsDate() { return "20240101"; }
+        };
     }
 }